@@ -0,0 +1,115 @@
+package com.bookstore.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BaselineComparison {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final String RECORD = "--record";
+    private static final List<String> ENVIRONMENT_FIELDS = List.of("jvm", "jvmArgs",
+            "jdkVersion", "vmName", "vmVersion");
+    private static final int MIN_FORKS = 3;
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && RECORD.equals(args[0])) {
+            record(new File(args[1]), new File(args[2]));
+            return;
+        }
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <result.json> "
+                    + "[max regression percent]");
+            System.err.println("       BaselineComparison --record <result.json> "
+                    + "<baseline.json>");
+            System.exit(2);
+        }
+        double maxRegression = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonNode> baseline = read(args[0]);
+        Map<String, JsonNode> current = read(args[1]);
+        boolean regressed = false;
+        System.out.printf("%-90s %14s %14s %9s %9s %12s %12s%n", "Benchmark", "Baseline",
+                "Current", "Change", "CI gap", "B/op base", "B/op now");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            double score = after.at("/primaryMetric/score").asDouble();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", score, "new");
+                continue;
+            }
+            double baseScore = before.at("/primaryMetric/score").asDouble();
+            double change = (score - baseScore) / baseScore * 100;
+            double gap = confidenceGap(before, after);
+            regressed |= gap > maxRegression;
+            System.out.printf("%-90s %14.3f %14.3f %8.1f%% %8.1f%% %12.1f %12.1f%n",
+                    entry.getKey(), baseScore, score, change, gap, allocation(before),
+                    allocation(after));
+        }
+        if (regressed) {
+            System.out.println("Regression over " + maxRegression + "% beyond the "
+                    + "confidence intervals detected");
+            System.exit(1);
+        }
+    }
+
+    private static double confidenceGap(JsonNode before, JsonNode after) {
+        double[] base = confidence(before);
+        double[] now = confidence(after);
+        if ("thrpt".equals(after.path("mode").asText())) {
+            return (base[0] - now[1]) / base[0] * 100;
+        }
+        return (now[0] - base[1]) / base[1] * 100;
+    }
+
+    private static double[] confidence(JsonNode result) {
+        JsonNode interval = result.at("/primaryMetric/scoreConfidence");
+        double score = result.at("/primaryMetric/score").asDouble();
+        if (interval.size() != 2 || Double.isNaN(interval.get(0).asDouble())
+                || Double.isNaN(interval.get(1).asDouble())) {
+            return new double[] {score, score};
+        }
+        return new double[] {interval.get(0).asDouble(), interval.get(1).asDouble()};
+    }
+
+    private static void record(File result, File baseline) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ArrayNode results = (ArrayNode) objectMapper.readTree(result);
+        for (JsonNode node : results) {
+            if (node.path("forks").asInt() < MIN_FORKS) {
+                throw new IllegalArgumentException(node.path("benchmark").asText()
+                        + " ran with fewer than " + MIN_FORKS + " forks");
+            }
+            ((ObjectNode) node).remove(ENVIRONMENT_FIELDS);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(baseline, results);
+    }
+
+    private static Map<String, JsonNode> read(String path) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(new File(path))) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=')
+                        .append(param.getValue().asText());
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static double allocation(JsonNode result) {
+        return result.path("secondaryMetrics").path(ALLOCATION).path("score").asDouble();
+    }
+}
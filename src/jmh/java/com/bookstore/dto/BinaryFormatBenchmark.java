@@ -0,0 +1,116 @@
+package com.bookstore.dto;
+
+import com.bookstore.dto.book.BookDto;
+import com.bookstore.dto.order.OrderResponseDto;
+import com.bookstore.dto.orderitem.OrderItemResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BinaryFormatBenchmark {
+    private static final TypeReference<List<BookDto>> BOOKS = new TypeReference<>() { };
+    private static final TypeReference<List<OrderResponseDto>> ORDERS =
+            new TypeReference<>() { };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"20", "200"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<BookDto> books;
+    private List<OrderResponseDto> orders;
+    private byte[] encodedBooks;
+    private byte[] encodedOrders;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory(format)).build();
+        books = new ArrayList<>();
+        orders = new ArrayList<>();
+        for (long i = 1; i <= size; i++) {
+            books.add(new BookDto()
+                    .setId(i)
+                    .setTitle("Book " + i)
+                    .setAuthor("Author " + i)
+                    .setIsbn("ISBN" + i)
+                    .setPrice(BigDecimal.valueOf(19.99))
+                    .setDescription("Description of book " + i)
+                    .setCoverImage("cover" + i + ".jpg")
+                    .setStock(100)
+                    .setCategoryIds(Set.of(1L, 2L)));
+            Set<OrderItemResponseDto> orderItems = new HashSet<>();
+            for (long j = 1; j <= 3; j++) {
+                orderItems.add(new OrderItemResponseDto().setId(i * 10 + j).setBookId(j)
+                        .setQuantity(1));
+            }
+            orders.add(new OrderResponseDto()
+                    .setId(i)
+                    .setUserId(1L)
+                    .setOrderItems(orderItems)
+                    .setOrderDate(LocalDateTime.of(2024, 1, 1, 12, 0))
+                    .setTotal(BigDecimal.valueOf(59.97))
+                    .setStatus("PENDING"));
+        }
+        encodedBooks = objectMapper.writeValueAsBytes(books);
+        encodedOrders = objectMapper.writeValueAsBytes(orders);
+        System.out.printf("%n%s payload for %d items: books %d bytes, orders %d bytes%n",
+                format, size, encodedBooks.length, encodedOrders.length);
+    }
+
+    @Benchmark
+    public byte[] writeBooks() throws Exception {
+        return objectMapper.writeValueAsBytes(books);
+    }
+
+    @Benchmark
+    public List<BookDto> readBooks() throws Exception {
+        return objectMapper.readValue(encodedBooks, BOOKS);
+    }
+
+    @Benchmark
+    public byte[] writeOrders() throws Exception {
+        return objectMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public List<OrderResponseDto> readOrders() throws Exception {
+        return objectMapper.readValue(encodedOrders, ORDERS);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookstore.mapper;
+
+import com.bookstore.dto.book.BookDto;
+import com.bookstore.mapper.impl.BookMapperImpl;
+import com.bookstore.model.Book;
+import com.bookstore.model.Category;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookMapperBenchmark {
+    @Param({"0", "3", "20"})
+    private int categories;
+
+    private final BookMapper bookMapper = new BookMapperImpl();
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        book = new Book();
+        book.setId(1L);
+        book.setTitle("1984");
+        book.setAuthor("George Orwell");
+        book.setIsbn("97800");
+        book.setPrice(BigDecimal.valueOf(299.99));
+        book.setDescription("Anti-utopia");
+        book.setCoverImage("1984.jpg");
+        book.setStock(10);
+        for (long i = 1; i <= categories; i++) {
+            Category category = new Category();
+            category.setId(i);
+            category.setName("Category " + i);
+            book.getCategories().add(category);
+        }
+    }
+
+    @Benchmark
+    public BookDto toDto() {
+        return bookMapper.toDto(book);
+    }
+}
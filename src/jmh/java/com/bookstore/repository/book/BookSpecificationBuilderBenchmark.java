@@ -0,0 +1,43 @@
+package com.bookstore.repository.book;
+
+import com.bookstore.dto.book.BookSearchParametersDto;
+import com.bookstore.model.Book;
+import com.bookstore.repository.book.spec.AuthorSpecificationProvider;
+import com.bookstore.repository.book.spec.TitleSpecificationProvider;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookSpecificationBuilderBenchmark {
+    private final BookSpecificationBuilder builder = new BookSpecificationBuilder(
+            new BookSpecificationProviderManager(List.of(
+                    new TitleSpecificationProvider(), new AuthorSpecificationProvider())));
+    private final BookSearchParametersDto titlesAndAuthors = new BookSearchParametersDto(
+            new String[] {"1984", "Animal Farm"}, new String[] {"George Orwell"});
+    private final BookSearchParametersDto empty = new BookSearchParametersDto(null, null);
+
+    @Benchmark
+    public Specification<Book> buildTitlesAndAuthors() {
+        return builder.build(titlesAndAuthors);
+    }
+
+    @Benchmark
+    public Specification<Book> buildEmpty() {
+        return builder.build(empty);
+    }
+}
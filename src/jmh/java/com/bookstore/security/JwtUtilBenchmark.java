@@ -0,0 +1,47 @@
+package com.bookstore.security;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtUtilBenchmark {
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("66d6d387bfecea0d529191b5deb80ed4");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 300000L);
+        token = jwtUtil.generateToken("admin@example.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("admin@example.com");
+    }
+
+    @Benchmark
+    public boolean isValidToken() {
+        return jwtUtil.isValidToken(token);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtUtil.getUsername(token);
+    }
+}
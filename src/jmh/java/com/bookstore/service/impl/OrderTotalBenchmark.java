@@ -0,0 +1,54 @@
+package com.bookstore.service.impl;
+
+import com.bookstore.model.Book;
+import com.bookstore.model.OrderItem;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderTotalBenchmark {
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private Set<OrderItem> orderItems;
+
+    @Setup
+    public void setUp() {
+        orderItems = new HashSet<>();
+        for (long i = 1; i <= items; i++) {
+            Book book = new Book();
+            book.setId(i);
+            book.setPrice(BigDecimal.valueOf(9.99).add(BigDecimal.valueOf(i)));
+            OrderItem orderItem = new OrderItem();
+            orderItem.setId(i);
+            orderItem.setBook(book);
+            orderItem.setQuantity((int) (i % 3) + 1);
+            orderItem.setPrice(book.getPrice()
+                    .multiply(BigDecimal.valueOf(orderItem.getQuantity())));
+            orderItems.add(orderItem);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotal() {
+        return OrderServiceImpl.calculateTotal(orderItems);
+    }
+}
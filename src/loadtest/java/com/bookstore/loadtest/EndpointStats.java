@@ -0,0 +1,51 @@
+package com.bookstore.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final String endpoint;
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void record(long elapsedNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos),
+                HIGHEST_TRACKABLE_MICROS);
+        latencies.recordValue(micros);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getCount() {
+        return latencies.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    Histogram getLatencies() {
+        return latencies;
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double getMaxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+}
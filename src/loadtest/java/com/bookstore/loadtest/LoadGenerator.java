@@ -0,0 +1,90 @@
+package com.bookstore.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoadGenerator {
+    private final LoadTestSettings settings;
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+
+    public LoadGenerator(LoadTestSettings settings, URI baseUri) {
+        this.settings = settings;
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+    }
+
+    public Collection<EndpointStats> run() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency());
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long deadline = measureFrom + settings.duration().toNanos();
+        List<Future<?>> users = new ArrayList<>();
+        for (int i = 0; i < settings.concurrency(); i++) {
+            VirtualUser user = new VirtualUser(this, settings,
+                    SyntheticDataGenerator.ADMIN_USER_ID + 1 + i, settings.seed() + i);
+            users.add(executor.submit(() -> user.run(deadline)));
+        }
+        log.info("Started {} virtual users, warming up for {}", settings.concurrency(),
+                settings.warmup());
+        TimeUnit.NANOSECONDS.sleep(measureFrom - System.nanoTime());
+        measuring = true;
+        log.info("Measuring for {}", settings.duration());
+        executor.shutdown();
+        if (!executor.awaitTermination(settings.duration().toSeconds() + 60, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        for (Future<?> user : users) {
+            if (user.isDone() && !user.isCancelled()) {
+                try {
+                    user.get();
+                } catch (Exception e) {
+                    log.warn("Virtual user failed", e);
+                }
+            }
+        }
+        return stats.values();
+    }
+
+    HttpResponse<String> send(String endpoint, HttpRequest.Builder request)
+            throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return response;
+        } finally {
+            if (measuring) {
+                boolean success = response != null && response.statusCode() < 400;
+                stats.computeIfAbsent(endpoint, EndpointStats::new)
+                        .record(System.nanoTime() - started, success);
+            }
+        }
+    }
+
+    HttpRequest.Builder request(String pathAndQuery) {
+        return HttpRequest.newBuilder(baseUri.resolve(pathAndQuery))
+                .header("Accept", "application/json");
+    }
+}
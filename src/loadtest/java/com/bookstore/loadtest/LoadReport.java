@@ -0,0 +1,73 @@
+package com.bookstore.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import org.HdrHistogram.Histogram;
+
+public class LoadReport {
+    private static final String HEADER = "%-36s %10s %9s %8s %9s %9s %9s %9s %9s%n";
+    private static final String ROW = "%-36s %10d %9.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n";
+
+    private final List<EndpointStats> endpoints;
+    private final double seconds;
+
+    public LoadReport(Collection<EndpointStats> endpoints, Duration duration) {
+        this.endpoints = endpoints.stream()
+                .sorted(Comparator.comparing(EndpointStats::getCount).reversed())
+                .toList();
+        this.seconds = duration.toMillis() / 1000.0;
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, HEADER, "Endpoint", "Requests", "Req/s", "Errors", "p50 ms",
+                "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long total = 0;
+        long errors = 0;
+        for (EndpointStats stats : endpoints) {
+            out.printf(Locale.ROOT, ROW, stats.getEndpoint(), stats.getCount(),
+                    stats.getCount() / seconds, stats.getErrors(),
+                    stats.getPercentileMillis(50), stats.getPercentileMillis(90),
+                    stats.getPercentileMillis(99), stats.getPercentileMillis(99.9),
+                    stats.getMaxMillis());
+            total += stats.getCount();
+            errors += stats.getErrors();
+        }
+        out.printf(Locale.ROOT, "Total: %d requests, %.1f req/s, %d errors%n", total,
+                total / seconds, errors);
+    }
+
+    public String summary() {
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        for (EndpointStats stats : endpoints) {
+            all.add(stats.getLatencies());
+            errors += stats.getErrors();
+        }
+        return String.format(Locale.ROOT, "%.1f req/s, p50 %.2f ms, p99 %.2f ms, %d errors",
+                all.getTotalCount() / seconds, all.getValueAtPercentile(50) / 1000.0,
+                all.getValueAtPercentile(99) / 1000.0, errors);
+    }
+
+    public void writeCsv(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path))) {
+            writer.println("endpoint,requests,requests_per_second,errors,p50_ms,p90_ms,p99_ms,"
+                    + "p999_ms,max_ms");
+            for (EndpointStats stats : endpoints) {
+                writer.printf(Locale.ROOT, "\"%s\",%d,%.2f,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                        stats.getEndpoint(), stats.getCount(), stats.getCount() / seconds,
+                        stats.getErrors(), stats.getPercentileMillis(50),
+                        stats.getPercentileMillis(90), stats.getPercentileMillis(99),
+                        stats.getPercentileMillis(99.9), stats.getMaxMillis());
+            }
+        }
+    }
+}
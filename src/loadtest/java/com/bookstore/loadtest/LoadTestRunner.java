@@ -0,0 +1,90 @@
+package com.bookstore.loadtest;
+
+import com.bookstore.BookStoreApplication;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+@Slf4j
+public final class LoadTestRunner {
+    static final String VIRTUAL_THREADS = "virtual";
+    private static final Path REPORT = Path.of("target", "loadtest-report.csv");
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        if (settings.users() <= settings.concurrency()) {
+            throw new IllegalArgumentException("users must be greater than concurrency");
+        }
+        try (PostgreSQLContainer<?> postgres = postgres(settings)) {
+            postgres.start();
+            try (ConfigurableApplicationContext context = startApplication(postgres,
+                    settings, settings.threads())) {
+                generateDataset(postgres, settings);
+                Collection<EndpointStats> stats = new LoadGenerator(settings,
+                        baseUri(context)).run();
+                LoadReport report = new LoadReport(stats, settings.duration());
+                report.print(System.out);
+                report.writeCsv(REPORT);
+                log.info("Report written to {}", REPORT.toAbsolutePath());
+            }
+        }
+        System.exit(0);
+    }
+
+    static PostgreSQLContainer<?> postgres(LoadTestSettings settings) {
+        return new PostgreSQLContainer<>(DockerImageName.parse(settings.postgresImage())
+                .asCompatibleSubstituteFor("postgres"))
+                .withCommand("postgres", "-c", "max_connections=200",
+                        "-c", "shared_buffers=512MB", "-c", "synchronous_commit=off");
+    }
+
+    static void generateDataset(PostgreSQLContainer<?> postgres, LoadTestSettings settings) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(jdbcUrl(postgres),
+                postgres.getUsername(), postgres.getPassword());
+        new SyntheticDataGenerator(new JdbcTemplate(dataSource), settings).generate();
+    }
+
+    static URI baseUri(ConfigurableApplicationContext context) {
+        return URI.create("http://localhost:"
+                + context.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    static ConfigurableApplicationContext startApplication(PostgreSQLContainer<?> postgres,
+                                                           LoadTestSettings settings,
+                                                           String threads) {
+        boolean virtual = VIRTUAL_THREADS.equals(threads);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", jdbcUrl(postgres));
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("spring.datasource.hikari.maximum-pool-size", settings.dbPoolSize());
+        properties.put("spring.docker.compose.enabled", false);
+        properties.put("server.port", 0);
+        properties.put("management.server.port", 0);
+        properties.put("threads.virtual.enabled", virtual);
+        properties.put("threads.virtual.pinning-monitor.enabled", virtual);
+        properties.put("jwt.expiration", 86_400_000);
+        properties.put("sql.query-counter.enabled", false);
+        properties.put("logging.level.org.hibernate.engine.internal"
+                + ".StatisticalLoggingSessionEventListener", "OFF");
+        return new SpringApplicationBuilder(BookStoreApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    private static String jdbcUrl(PostgreSQLContainer<?> postgres) {
+        return postgres.getJdbcUrl() + "&reWriteBatchedInserts=true";
+    }
+}
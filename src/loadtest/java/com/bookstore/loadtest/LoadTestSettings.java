@@ -0,0 +1,55 @@
+package com.bookstore.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadTestSettings(
+        String postgresImage,
+        int categories,
+        int books,
+        int users,
+        int orders,
+        int maxItemsPerOrder,
+        int maxCartItems,
+        int batchSize,
+        long seed,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        String password,
+        String threads,
+        int dbPoolSize) {
+
+    public static LoadTestSettings parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestSettings(
+                values.getOrDefault("postgres-image", "postgres:15"),
+                intValue(values, "categories", 200),
+                intValue(values, "books", 1_000_000),
+                intValue(values, "users", 200_000),
+                intValue(values, "orders", 2_000_000),
+                intValue(values, "max-items-per-order", 5),
+                intValue(values, "max-cart-items", 3),
+                intValue(values, "batch-size", 5_000),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                intValue(values, "concurrency", 64),
+                Duration.parse(values.getOrDefault("warmup", "PT30S")),
+                Duration.parse(values.getOrDefault("duration", "PT3M")),
+                values.getOrDefault("password", "loadtest-password"),
+                values.getOrDefault("threads", "platform"),
+                intValue(values, "db-pool-size", 20));
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value.replace("_", ""));
+    }
+}
@@ -0,0 +1,262 @@
+package com.bookstore.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+@Slf4j
+public final class NativeSmokeRunner {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(60);
+    private static final String[] DATASET = {"categories=5", "books=200", "users=10",
+            "orders=50", "concurrency=1"};
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<String> failures = new ArrayList<>();
+    private URI baseUri;
+
+    private NativeSmokeRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path binary = Path.of(Stream.of(args)
+                .filter(arg -> arg.startsWith("binary="))
+                .map(arg -> arg.substring("binary=".length()))
+                .findFirst()
+                .orElse("target/demo"));
+        if (!Files.isExecutable(binary)) {
+            throw new IllegalStateException(binary + " not found, build it with "
+                    + "mvn -Pnative -DskipTests native:compile");
+        }
+        LoadTestSettings settings = LoadTestSettings.parse(Stream.concat(Stream.of(DATASET),
+                Stream.of(args).filter(arg -> !arg.startsWith("binary="))).toArray(String[]::new));
+        System.exit(new NativeSmokeRunner().run(binary, settings));
+    }
+
+    private int run(Path binary, LoadTestSettings settings) throws Exception {
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+                DockerImageName.parse(settings.postgresImage()).asCompatibleSubstituteFor(
+                        "postgres"))) {
+            postgres.start();
+            int port = freePort();
+            int managementPort = freePort();
+            long launched = System.nanoTime();
+            Process application = new ProcessBuilder(binary.toAbsolutePath().toString(),
+                    "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                    "--spring.datasource.username=" + postgres.getUsername(),
+                    "--spring.datasource.password=" + postgres.getPassword(),
+                    "--spring.docker.compose.enabled=false",
+                    "--server.port=" + port,
+                    "--management.server.port=" + managementPort)
+                    .inheritIO()
+                    .start();
+            try {
+                awaitReady(URI.create("http://localhost:" + managementPort + "/actuator/health"));
+                log.info("Native image ready in {} ms, RSS {}",
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launched),
+                        residentSetSize(application.pid()));
+                new SyntheticDataGenerator(new JdbcTemplate(new DriverManagerDataSource(
+                        postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())),
+                        settings).generate();
+                baseUri = URI.create("http://localhost:" + port);
+                exerciseControllers(settings);
+                check("GET /actuator/prometheus", HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + managementPort + "/actuator/prometheus")), null,
+                        200);
+                log.info("RSS after smoke run {}", residentSetSize(application.pid()));
+            } finally {
+                application.destroy();
+                application.waitFor(30, TimeUnit.SECONDS);
+            }
+        }
+        failures.forEach(failure -> log.error("Smoke check failed: {}", failure));
+        return failures.isEmpty() ? 0 : 1;
+    }
+
+    private void exerciseControllers(LoadTestSettings settings) throws Exception {
+        String email = "smoke@loadtest.local";
+        check("POST /auth/register", post("/auth/register", MAPPER.createObjectNode()
+                .put("email", email)
+                .put("password", settings.password())
+                .put("repeatPassword", settings.password())
+                .put("firstName", "Smoke")
+                .put("lastName", "Test")
+                .put("shippingAddress", "1 Smoke Street")), null, 200);
+        check("POST /auth/login (registered)", post("/auth/login", MAPPER.createObjectNode()
+                .put("email", email).put("password", settings.password())), null, 200);
+        final String admin = login(SyntheticDataGenerator.ADMIN_USER_ID, settings);
+        final String user = login(SyntheticDataGenerator.ADMIN_USER_ID + 1, settings);
+
+        JsonNode category = check("POST /categories", post("/categories",
+                MAPPER.createObjectNode().put("name", "Smoke").put("description", "Smoke")),
+                admin, 201);
+        long categoryId = category.path("id").asLong();
+        check("GET /categories", get("/categories"), user, 200);
+        check("GET /categories/{id}", get("/categories/" + categoryId), user, 200);
+        check("PUT /categories/{id}", put("/categories/" + categoryId, MAPPER.createObjectNode()
+                .put("name", "Smoke updated")), admin, 200);
+
+        JsonNode book = check("POST /books", post("/books", MAPPER.createObjectNode()
+                .put("title", "Smoke book")
+                .put("author", "Smoke author")
+                .put("isbn", "smoke-isbn")
+                .put("price", 10)
+                .put("stock", 100)
+                .set("categoryIds", MAPPER.createArrayNode().add(categoryId))), admin, 201);
+        long bookId = book.path("id").asLong();
+        check("GET /books", get("/books?size=20"), user, 200);
+        check("GET /books/{id}", get("/books/" + bookId), user, 200);
+        check("GET /books/search", get("/books/search?authors=Smoke%20author"), user, 200);
+        check("GET /categories/{id}/books", get("/categories/" + categoryId + "/books"), user,
+                200);
+        check("PUT /books/{id}", put("/books/" + bookId, MAPPER.createObjectNode()
+                .put("title", "Smoke book 2")
+                .put("author", "Smoke author")
+                .put("isbn", "smoke-isbn")
+                .put("price", 12)
+                .set("categoryIds", MAPPER.createArrayNode().add(categoryId))), admin, 200);
+
+        check("POST /cart", post("/cart", MAPPER.createObjectNode()
+                .put("bookId", bookId).put("quantity", 2)), user, 200);
+        JsonNode cart = check("GET /cart", get("/cart"), user, 200);
+        long cartItemId = cart.path("cartItems").path(0).path("id").asLong();
+        check("PUT /cart/cart-items/{id}", put("/cart/cart-items/" + cartItemId,
+                MAPPER.createObjectNode().put("quantity", 1)), user, 200);
+        check("POST /inventory/reservations", post("/inventory/reservations", null), user,
+                200);
+        check("GET /inventory/reservations", get("/inventory/reservations"), user, 200);
+        check("PATCH /inventory/books/{id}/stock", patch("/inventory/books/" + bookId
+                + "/stock", MAPPER.createObjectNode().put("quantity", 5)), admin, 204);
+
+        JsonNode order = check("POST /orders", post("/orders", MAPPER.createObjectNode()
+                .put("shippingAddress", "1 Smoke Street")), user, 200);
+        long orderId = order.path("id").asLong();
+        check("GET /orders", get("/orders"), user, 200);
+        check("GET /orders/recent", get("/orders/recent"), user, 200);
+        JsonNode items = check("GET /orders/{id}/items", get("/orders/" + orderId + "/items"),
+                user, 200);
+        check("GET /orders/{id}/items/{itemId}", get("/orders/" + orderId + "/items/"
+                + items.path(0).path("id").asLong()), user, 200);
+        check("PATCH /orders/{id}", patch("/orders/" + orderId, MAPPER.createObjectNode()
+                .put("status", "DELIVERED")), admin, 200);
+        check("PATCH /orders/status", patch("/orders/status", MAPPER.createObjectNode()
+                .put("currentStatus", "PENDING").put("status", "DELIVERED")), admin, 200);
+        check("DELETE /cart/cart-items/{id}", delete("/cart/cart-items/" + cartItemId), user,
+                204);
+
+        LocalDate today = LocalDate.now();
+        check("GET /sales/books", get("/sales/books"), admin, 200);
+        check("GET /sales/categories", get("/sales/categories"), admin, 200);
+        check("GET /sales/daily", get("/sales/daily?from=" + today.minusDays(30) + "&to="
+                + today), admin, 200);
+        check("GET /maintenance/purge", get("/maintenance/purge"), admin, 200);
+        check("DELETE /books/{id}", delete("/books/" + bookId), admin, 204);
+        check("DELETE /categories/{id}", delete("/categories/" + categoryId), admin, 204);
+    }
+
+    private String login(long userId, LoadTestSettings settings) throws Exception {
+        return check("POST /auth/login", post("/auth/login", MAPPER.createObjectNode()
+                .put("email", SyntheticDataGenerator.email(userId))
+                .put("password", settings.password())), null, 200).path("token").asText();
+    }
+
+    private JsonNode check(String name, HttpRequest.Builder request, String token,
+                           int... expected) throws IOException, InterruptedException {
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = httpClient.send(request.build(),
+                HttpResponse.BodyHandlers.ofString());
+        for (int status : expected) {
+            if (response.statusCode() == status) {
+                log.info("{} -> {}", name, status);
+                return response.body().isEmpty()
+                        ? MAPPER.missingNode() : MAPPER.readTree(response.body());
+            }
+        }
+        failures.add(name + " returned " + response.statusCode() + ": " + response.body());
+        return MAPPER.missingNode();
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder delete(String path) {
+        return request(path).DELETE();
+    }
+
+    private HttpRequest.Builder post(String path, JsonNode body) {
+        return request(path).POST(json(body));
+    }
+
+    private HttpRequest.Builder put(String path, JsonNode body) {
+        return request(path).PUT(json(body));
+    }
+
+    private HttpRequest.Builder patch(String path, JsonNode body) {
+        return request(path).method("PATCH", json(body));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher json(JsonNode body) {
+        return body == null ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body.toString());
+    }
+
+    private void awaitReady(URI health) throws InterruptedException {
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (httpClient.send(HttpRequest.newBuilder(health).build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                log.debug("Application not ready yet", e);
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        throw new IllegalStateException("Native image not ready within " + READY_TIMEOUT);
+    }
+
+    private static String residentSetSize(long pid) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", Long.toString(pid), "status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.substring("VmRSS:".length()).trim())
+                    .findFirst()
+                    .orElse("unknown");
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
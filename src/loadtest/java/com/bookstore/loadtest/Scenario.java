@@ -0,0 +1,42 @@
+package com.bookstore.loadtest;
+
+import java.util.SplittableRandom;
+
+public enum Scenario {
+    BROWSE(35),
+    VIEW_BOOK(20),
+    SEARCH(13),
+    BROWSE_CATEGORY(2),
+    CART(12),
+    CHECKOUT(6),
+    ORDER_HISTORY(5),
+    LOGIN(2),
+    ADMIN(5);
+
+    private static final int TOTAL_WEIGHT = totalWeight();
+
+    private final int weight;
+
+    Scenario(int weight) {
+        this.weight = weight;
+    }
+
+    public static Scenario pick(SplittableRandom random) {
+        int roll = random.nextInt(TOTAL_WEIGHT);
+        for (Scenario scenario : values()) {
+            roll -= scenario.weight;
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Scenario weights do not add up");
+    }
+
+    private static int totalWeight() {
+        int total = 0;
+        for (Scenario scenario : values()) {
+            total += scenario.weight;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,166 @@
+package com.bookstore.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+@Slf4j
+public final class StartupComparison {
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(3);
+    private static final String MAIN_CLASS = "com.bookstore.BookStoreApplication";
+    private static final String JAR = "jar=";
+    private static final String RUNS = "runs=";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final Path layout;
+
+    private StartupComparison(Path layout) {
+        this.layout = layout;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(option(args, JAR, "target/demo-0.0.1-SNAPSHOT.jar"))
+                .toAbsolutePath();
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " not found, build it with "
+                    + "mvn -DskipTests package");
+        }
+        int runs = Integer.parseInt(option(args, RUNS, "5"));
+        LoadTestSettings settings = LoadTestSettings.parse(Stream.of(args)
+                .filter(arg -> !arg.startsWith(JAR) && !arg.startsWith(RUNS))
+                .toArray(String[]::new));
+        StartupComparison comparison = new StartupComparison(
+                Files.createTempDirectory("startup-comparison"));
+        comparison.prepareFastStartup(jar);
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("default", List.of(java("java"), "-jar", jar.toString()));
+        modes.put("fast-startup", List.of(java("java"), "-XX:SharedArchiveFile=application.jsa",
+                "-Dspring.profiles.active=fast-startup", "-cp", "application.jar:BOOT-INF/lib/*",
+                MAIN_CLASS));
+        Map<String, List<Long>> timings = new LinkedHashMap<>();
+        try (PostgreSQLContainer<?> postgres = LoadTestRunner.postgres(settings)) {
+            postgres.start();
+            List<String> datasource = List.of(
+                    "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                    "--spring.datasource.username=" + postgres.getUsername(),
+                    "--spring.datasource.password=" + postgres.getPassword(),
+                    "--spring.docker.compose.enabled=false");
+            // The fast-startup mode skips Liquibase, so an untimed default start applies the
+            // changelog first
+            comparison.timeToHealthy("migrate", modes.get("default"), datasource);
+            for (int run = 0; run < runs; run++) {
+                for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                    timings.computeIfAbsent(mode.getKey(), key -> new ArrayList<>())
+                            .add(comparison.timeToHealthy(mode.getKey(), mode.getValue(),
+                                    datasource));
+                }
+            }
+        }
+        System.out.println();
+        System.out.printf("%-13s %10s %10s %10s%n", "Mode", "Median ms", "Min ms", "Max ms");
+        timings.forEach((mode, millis) -> {
+            List<Long> sorted = millis.stream().sorted().toList();
+            System.out.printf("%-13s %10d %10d %10d%n", mode, sorted.get(sorted.size() / 2),
+                    sorted.get(0), sorted.get(sorted.size() - 1));
+        });
+        System.exit(0);
+    }
+
+    private void prepareFastStartup(Path jar) throws Exception {
+        execute("extract", java("jar"), "xf", jar.toString());
+        // Same steps as the Dockerfile: flat class path and an AppCDS archive from a training run
+        execute("flatten", java("jar"), "cf", "application.jar", "-C", "BOOT-INF/classes", ".");
+        execute("training", java("java"), "-XX:ArchiveClassesAtExit=application.jsa",
+                "-Dspring.profiles.active=fast-startup", "-Dstartup.training-run=true",
+                "-Dscheduling.enabled=false", "-Dspring.docker.compose.enabled=false",
+                "-Dspring.datasource.url=jdbc:postgresql://localhost:5432/training",
+                "-cp", "application.jar:BOOT-INF/lib/*", MAIN_CLASS);
+    }
+
+    private void execute(String step, String... command) throws Exception {
+        Process process = new ProcessBuilder(command)
+                .directory(layout.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(layout.resolve(step + ".log").toFile())
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(step + " failed, see " + layout.resolve(step
+                    + ".log"));
+        }
+    }
+
+    private long timeToHealthy(String mode, List<String> command, List<String> datasource)
+            throws Exception {
+        int managementPort = freePort();
+        List<String> arguments = new ArrayList<>(command);
+        arguments.addAll(datasource);
+        arguments.add("--server.port=" + freePort());
+        arguments.add("--management.server.port=" + managementPort);
+        long launched = System.nanoTime();
+        Process application = new ProcessBuilder(arguments)
+                .directory(layout.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(layout.resolve(mode + ".log").toFile())
+                .start();
+        try {
+            awaitReady(URI.create("http://localhost:" + managementPort + "/actuator/health"),
+                    application);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launched);
+            log.info("{} healthy in {} ms", mode, millis);
+            return millis;
+        } finally {
+            application.destroy();
+            application.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void awaitReady(URI health, Process application) throws InterruptedException {
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline && application.isAlive()) {
+            try {
+                if (httpClient.send(HttpRequest.newBuilder(health).build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                log.debug("Application not ready yet", e);
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        throw new IllegalStateException("Application not healthy within " + READY_TIMEOUT
+                + ", see the logs in " + layout);
+    }
+
+    private static String option(String[] args, String prefix, String defaultValue) {
+        return Stream.of(args)
+                .filter(arg -> arg.startsWith(prefix))
+                .map(arg -> arg.substring(prefix.length()))
+                .findFirst()
+                .orElse(defaultValue);
+    }
+
+    private static String java(String tool) {
+        return Path.of(System.getProperty("java.home"), "bin", tool).toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.bookstore.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@Slf4j
+public class SyntheticDataGenerator {
+    public static final long ADMIN_USER_ID = 1L;
+    private static final int BOOKS_PER_AUTHOR = 20;
+    private static final int INITIAL_STOCK = 1_000_000;
+    private static final int ORDER_HISTORY_DAYS = 365;
+    private static final String[] STATUSES = {"COMPLETED", "COMPLETED", "COMPLETED",
+            "COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED", "DELIVERED", "DELIVERED",
+            "PENDING"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random;
+    private final long[] bookPriceCents;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.seed());
+        this.bookPriceCents = new long[settings.books() + 1];
+    }
+
+    public static String email(long userId) {
+        return "user" + userId + "@loadtest.local";
+    }
+
+    public static String title(long bookId) {
+        return "Book " + bookId;
+    }
+
+    public static String author(long bookId) {
+        return "Author " + bookId / BOOKS_PER_AUTHOR;
+    }
+
+    public void generate() {
+        long started = System.nanoTime();
+        generateCategories();
+        generateBooks();
+        generateUsers();
+        generateCartItems();
+        generateOrders();
+        rebuildSalesAggregates();
+        resetSequences();
+        jdbcTemplate.execute("ANALYZE");
+        log.info("Synthetic dataset generated in {} s",
+                (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private void generateCategories() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= settings.categories(); id++) {
+            rows.add(new Object[]{id, "Category " + id, "Synthetic category " + id});
+        }
+        flush("INSERT INTO categories (id, name, description) VALUES (?, ?, ?)", rows);
+        log.info("Inserted {} categories", settings.categories());
+    }
+
+    private void generateBooks() {
+        String bookSql = "INSERT INTO books (id, title, author, isbn, price, description, "
+                + "cover_image, stock) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        String categorySql = "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)";
+        List<Object[]> books = new ArrayList<>(settings.batchSize());
+        List<Object[]> categories = new ArrayList<>(settings.batchSize());
+        for (long id = 1; id <= settings.books(); id++) {
+            long priceCents = 500 + random.nextLong(9_500);
+            bookPriceCents[(int) id] = priceCents;
+            books.add(new Object[]{id, title(id), author(id), String.format("978%010d", id),
+                    BigDecimal.valueOf(priceCents, 2), "Synthetic book " + id,
+                    "https://covers.loadtest.local/" + id + ".jpg", INITIAL_STOCK});
+            int firstCategory = 1 + random.nextInt(settings.categories());
+            int categoryCount = 1 + random.nextInt(Math.min(3, settings.categories()));
+            for (int i = 0; i < categoryCount; i++) {
+                categories.add(new Object[]{id,
+                        (firstCategory + i - 1) % settings.categories() + 1});
+            }
+            if (books.size() >= settings.batchSize()) {
+                flush(bookSql, books);
+                flush(categorySql, categories);
+            }
+        }
+        flush(bookSql, books);
+        flush(categorySql, categories);
+        log.info("Inserted {} books", settings.books());
+    }
+
+    private void generateUsers() {
+        String passwordHash = new BCryptPasswordEncoder().encode(settings.password());
+        Long adminRole = roleId("ROLE_ADMIN");
+        Long userRole = roleId("ROLE_USER");
+        String userSql = "INSERT INTO users (id, email, password, first_name, last_name, "
+                + "shipping_address) VALUES (?, ?, ?, ?, ?, ?)";
+        String roleSql = "INSERT INTO users_roles (user_id, role_id) VALUES (?, ?)";
+        String cartSql = "INSERT INTO shopping_carts (id) VALUES (?)";
+        List<Object[]> users = new ArrayList<>(settings.batchSize());
+        List<Object[]> roles = new ArrayList<>(settings.batchSize());
+        List<Object[]> carts = new ArrayList<>(settings.batchSize());
+        for (long id = 1; id <= settings.users(); id++) {
+            users.add(new Object[]{id, email(id), passwordHash, "First" + id, "Last" + id,
+                    id + " Synthetic Street"});
+            roles.add(new Object[]{id, userRole});
+            if (id == ADMIN_USER_ID) {
+                roles.add(new Object[]{id, adminRole});
+            }
+            carts.add(new Object[]{id});
+            if (users.size() >= settings.batchSize()) {
+                flush(userSql, users);
+                flush(roleSql, roles);
+                flush(cartSql, carts);
+            }
+        }
+        flush(userSql, users);
+        flush(roleSql, roles);
+        flush(cartSql, carts);
+        log.info("Inserted {} users with shopping carts", settings.users());
+    }
+
+    private void generateCartItems() {
+        String sql = "INSERT INTO cart_items (id, cart_id, book_id, quantity) VALUES (?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(settings.batchSize());
+        long itemId = 0;
+        for (long userId = 1; userId <= settings.users(); userId++) {
+            int items = random.nextInt(settings.maxCartItems() + 1);
+            for (int i = 0; i < items; i++) {
+                rows.add(new Object[]{++itemId, userId, randomBook(), 1 + random.nextInt(3)});
+            }
+            if (rows.size() >= settings.batchSize()) {
+                flush(sql, rows);
+            }
+        }
+        flush(sql, rows);
+        log.info("Inserted {} cart items", itemId);
+    }
+
+    private void generateOrders() {
+        String orderSql = "INSERT INTO orders (id, user_id, status, total, order_date, "
+                + "shipping_address) VALUES (?, ?, ?, ?, ?, ?)";
+        String itemSql = "INSERT INTO order_items (id, order_id, book_id, quantity, price, "
+                + "order_date) VALUES (?, ?, ?, ?, ?, ?)";
+        List<Object[]> orders = new ArrayList<>(settings.batchSize());
+        List<Object[]> items = new ArrayList<>(settings.batchSize());
+        LocalDateTime now = LocalDateTime.now();
+        long itemId = 0;
+        for (long orderId = 1; orderId <= settings.orders(); orderId++) {
+            long userId = 1 + random.nextLong(settings.users());
+            Timestamp orderDate = Timestamp.valueOf(
+                    now.minusMinutes(random.nextLong(ORDER_HISTORY_DAYS * 24L * 60)));
+            int itemCount = 1 + random.nextInt(settings.maxItemsPerOrder());
+            long totalCents = 0;
+            for (int i = 0; i < itemCount; i++) {
+                long bookId = randomBook();
+                int quantity = 1 + random.nextInt(3);
+                long priceCents = bookPriceCents[(int) bookId] * quantity;
+                totalCents += priceCents;
+                items.add(new Object[]{++itemId, orderId, bookId, quantity,
+                        BigDecimal.valueOf(priceCents, 2), orderDate});
+            }
+            orders.add(new Object[]{orderId, userId, STATUSES[random.nextInt(STATUSES.length)],
+                    BigDecimal.valueOf(totalCents, 2), orderDate, userId + " Synthetic Street"});
+            if (orders.size() >= settings.batchSize()) {
+                flush(orderSql, orders);
+                flush(itemSql, items);
+            }
+        }
+        flush(orderSql, orders);
+        flush(itemSql, items);
+        log.info("Inserted {} orders with {} items", settings.orders(), itemId);
+    }
+
+    private void rebuildSalesAggregates() {
+        jdbcTemplate.update("INSERT INTO book_sales (book_id, quantity_sold, revenue) "
+                + "SELECT book_id, SUM(quantity), SUM(price) FROM order_items GROUP BY book_id");
+        jdbcTemplate.update("INSERT INTO category_sales (category_id, quantity_sold, revenue) "
+                + "SELECT bc.category_id, SUM(bs.quantity_sold), SUM(bs.revenue) "
+                + "FROM book_sales bs JOIN books_categories bc ON bc.book_id = bs.book_id "
+                + "GROUP BY bc.category_id");
+        jdbcTemplate.update("INSERT INTO daily_sales (sales_date, orders_count, items_sold, "
+                + "revenue, delivered_count, completed_count) "
+                + "SELECT CAST(o.order_date AS date), COUNT(*), SUM(i.items), SUM(o.total), "
+                + "SUM(CASE WHEN o.status = 'DELIVERED' THEN 1 ELSE 0 END), "
+                + "SUM(CASE WHEN o.status = 'COMPLETED' THEN 1 ELSE 0 END) "
+                + "FROM orders o JOIN (SELECT order_id, SUM(quantity) AS items "
+                + "FROM order_items GROUP BY order_id) i ON i.order_id = o.id "
+                + "GROUP BY CAST(o.order_date AS date)");
+    }
+
+    private void resetSequences() {
+        for (String table : List.of("books", "categories", "users", "cart_items")) {
+            jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                    + "COALESCE((SELECT MAX(id) FROM " + table + "), 0) + 1, false)");
+        }
+        jdbcTemplate.execute("SELECT setval('orders_partitioned_id_seq', "
+                + "COALESCE((SELECT MAX(id) FROM orders), 0) + 1, false)");
+        jdbcTemplate.execute("SELECT setval('order_items_partitioned_id_seq', "
+                + "COALESCE((SELECT MAX(id) FROM order_items), 0) + 1, false)");
+    }
+
+    private Long roleId(String name) {
+        return jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = ?", Long.class,
+                name);
+    }
+
+    private long randomBook() {
+        return 1 + random.nextLong(settings.books());
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
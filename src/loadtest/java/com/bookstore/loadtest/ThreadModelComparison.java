@@ -0,0 +1,54 @@
+package com.bookstore.loadtest;
+
+import com.bookstore.config.VirtualThreads;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+@Slf4j
+public final class ThreadModelComparison {
+    private static final List<String> THREAD_MODELS = List.of("platform",
+            LoadTestRunner.VIRTUAL_THREADS);
+
+    private ThreadModelComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (!VirtualThreads.isSupported()) {
+            throw new IllegalStateException("Run the comparison on Java 21, current runtime is "
+                    + Runtime.version());
+        }
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        Map<String, LoadReport> reports = new LinkedHashMap<>();
+        try (PostgreSQLContainer<?> postgres = LoadTestRunner.postgres(settings)) {
+            postgres.start();
+            for (String threads : THREAD_MODELS) {
+                try (ConfigurableApplicationContext context = LoadTestRunner.startApplication(
+                        postgres, settings, threads)) {
+                    if (reports.isEmpty()) {
+                        LoadTestRunner.generateDataset(postgres, settings);
+                    }
+                    log.info("Running {} thread model with {} virtual users", threads,
+                            settings.concurrency());
+                    LoadReport report = new LoadReport(new LoadGenerator(settings,
+                            LoadTestRunner.baseUri(context)).run(), settings.duration());
+                    report.writeCsv(Path.of("target", "loadtest-report-" + threads + ".csv"));
+                    reports.put(threads, report);
+                }
+            }
+        }
+        reports.forEach((threads, report) -> {
+            System.out.println();
+            System.out.println("== " + threads + " threads");
+            report.print(System.out);
+        });
+        System.out.println();
+        reports.forEach((threads, report) ->
+                System.out.printf("%-9s %s%n", threads, report.summary()));
+        System.exit(0);
+    }
+}
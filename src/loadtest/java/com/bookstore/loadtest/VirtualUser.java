@@ -0,0 +1,157 @@
+package com.bookstore.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class VirtualUser {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int MAX_CART_ITEMS = 5;
+    private static final int PAGE_SIZE = 20;
+    private static final int BROWSABLE_PAGES = 50;
+
+    private final LoadGenerator generator;
+    private final LoadTestSettings settings;
+    private final long userId;
+    private final SplittableRandom random;
+    private String token;
+    private String adminToken;
+
+    public VirtualUser(LoadGenerator generator, LoadTestSettings settings, long userId,
+                       long seed) {
+        this.generator = generator;
+        this.settings = settings;
+        this.userId = userId;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public Void run(long deadline) throws IOException, InterruptedException {
+        token = login(userId);
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            try {
+                runScenario(Scenario.pick(random));
+            } catch (IOException e) {
+                log.debug("Request of virtual user {} failed", userId, e);
+            }
+        }
+        return null;
+    }
+
+    private void runScenario(Scenario scenario) throws IOException, InterruptedException {
+        switch (scenario) {
+            case BROWSE -> get("GET /books", "/books?page=" + random.nextInt(BROWSABLE_PAGES)
+                    + "&size=" + PAGE_SIZE, token);
+            case VIEW_BOOK -> get("GET /books/{id}", "/books/" + randomBook(), token);
+            case SEARCH -> search();
+            case BROWSE_CATEGORY -> get("GET /categories/{id}/books", "/categories/"
+                    + (1 + random.nextInt(settings.categories())) + "/books", token);
+            case CART -> cart();
+            case CHECKOUT -> checkout();
+            case ORDER_HISTORY -> {
+                get("GET /orders", "/orders?size=10", token);
+                get("GET /orders/recent", "/orders/recent?size=10", token);
+            }
+            case LOGIN -> login(1 + SyntheticDataGenerator.ADMIN_USER_ID
+                    + random.nextLong(settings.users() - 1));
+            case ADMIN -> admin();
+            default -> throw new IllegalStateException("Unknown scenario " + scenario);
+        }
+    }
+
+    private void search() throws IOException, InterruptedException {
+        long bookId = randomBook();
+        if (random.nextBoolean()) {
+            get("GET /books/search", "/books/search?titles="
+                    + encode(SyntheticDataGenerator.title(bookId)) + "&size=" + PAGE_SIZE, token);
+        } else {
+            get("GET /books/search", "/books/search?authors="
+                    + encode(SyntheticDataGenerator.author(bookId)) + "&size=" + PAGE_SIZE, token);
+        }
+    }
+
+    private void cart() throws IOException, InterruptedException {
+        addToCart();
+        JsonNode cart = MAPPER.readTree(get("GET /cart", "/cart", token).body());
+        JsonNode items = cart.path("cartItems");
+        if (items.size() > MAX_CART_ITEMS) {
+            send("DELETE /cart/cart-items/{id}", generator.request("/cart/cart-items/"
+                    + items.get(0).path("id").asLong()).DELETE(), token);
+        }
+    }
+
+    private void checkout() throws IOException, InterruptedException {
+        addToCart();
+        send("POST /orders", generator.request("/orders")
+                .header("Content-Type", "application/json")
+                .POST(json("{\"shippingAddress\":\"" + userId + " Synthetic Street\"}")), token);
+    }
+
+    private void admin() throws IOException, InterruptedException {
+        if (adminToken == null) {
+            adminToken = login(SyntheticDataGenerator.ADMIN_USER_ID);
+        }
+        switch (random.nextInt(3)) {
+            case 0 -> {
+                LocalDate to = LocalDate.now();
+                get("GET /sales/daily", "/sales/daily?from=" + to.minusDays(30) + "&to=" + to,
+                        adminToken);
+            }
+            case 1 -> get("GET /sales/books", "/sales/books?size=" + PAGE_SIZE, adminToken);
+            default -> send("PATCH /inventory/books/{id}/stock", generator.request(
+                    "/inventory/books/" + randomBook() + "/stock")
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", json("{\"quantity\":10}")), adminToken);
+        }
+    }
+
+    private void addToCart() throws IOException, InterruptedException {
+        send("POST /cart", generator.request("/cart")
+                .header("Content-Type", "application/json")
+                .POST(json("{\"bookId\":" + randomBook() + ",\"quantity\":1}")), token);
+    }
+
+    private String login(long loginUserId) throws IOException, InterruptedException {
+        HttpResponse<String> response = generator.send("POST /auth/login",
+                generator.request("/auth/login")
+                        .header("Content-Type", "application/json")
+                        .POST(json(MAPPER.createObjectNode()
+                                .put("email", SyntheticDataGenerator.email(loginUserId))
+                                .put("password", settings.password())
+                                .toString())));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login of user " + loginUserId + " failed with "
+                    + response.statusCode());
+        }
+        return MAPPER.readTree(response.body()).path("token").asText();
+    }
+
+    private HttpResponse<String> get(String endpoint, String pathAndQuery, String bearer)
+            throws IOException, InterruptedException {
+        return send(endpoint, generator.request(pathAndQuery).GET(), bearer);
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder request,
+                                      String bearer) throws IOException, InterruptedException {
+        return generator.send(endpoint, request.header("Authorization", "Bearer " + bearer));
+    }
+
+    private long randomBook() {
+        return 1 + random.nextLong(settings.books());
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
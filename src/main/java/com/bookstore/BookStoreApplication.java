@@ -1,12 +1,25 @@
 package com.bookstore;
 
+import com.bookstore.config.NativeRuntimeHints;
+import com.bookstore.startup.SchemaMigration;
+import com.bookstore.startup.StartupTimelineReporter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class BookStoreApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(BookStoreApplication.class, args);
+        if (SchemaMigration.isRequested(args)) {
+            SchemaMigration.run(args);
+            return;
+        }
+        SpringApplication application = new SpringApplication(BookStoreApplication.class);
+        application.setApplicationStartup(
+                new BufferingApplicationStartup(StartupTimelineReporter.BUFFER_CAPACITY));
+        application.run(args);
     }
 }
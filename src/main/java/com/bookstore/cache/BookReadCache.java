@@ -0,0 +1,126 @@
+package com.bookstore.cache;
+
+import com.bookstore.dto.book.BookDto;
+import com.bookstore.exception.CacheLoadTimeoutException;
+import com.bookstore.exception.EntityNotFoundException;
+import com.bookstore.mapper.BookMapper;
+import com.bookstore.repository.book.BookRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class BookReadCache {
+    private final BookRepository bookRepository;
+    private final BookMapper bookMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AsyncLoadingCache<Long, BookDto> books;
+    private final boolean enabled;
+    private final long loadTimeoutMillis;
+
+    public BookReadCache(
+            BookRepository bookRepository,
+            BookMapper bookMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+            Executor executor,
+            @Value("${cache.books.enabled:false}") boolean enabled,
+            @Value("${cache.books.maximum-size:10000}") long maximumSize,
+            @Value("${cache.books.expire-after-write:PT5M}") Duration expireAfterWrite,
+            @Value("${cache.books.refresh-after-write:PT1M}") Duration refreshAfterWrite,
+            @Value("${cache.books.load-timeout:PT2S}") Duration loadTimeout) {
+        this.bookRepository = bookRepository;
+        this.bookMapper = bookMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.loadTimeoutMillis = loadTimeout.toMillis();
+        this.books = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .executor(executor)
+                .recordStats()
+                .buildAsync(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, books, "books");
+    }
+
+    public BookDto get(Long id) {
+        return enabled ? getCached(id) : load(id);
+    }
+
+    public int preload(Collection<Long> ids) {
+        Map<Long, BookDto> loaded = loadAll(ids);
+        if (enabled) {
+            loaded.forEach((id, book) -> books.put(id, CompletableFuture.completedFuture(book)));
+        }
+        return loaded.size();
+    }
+
+    public void invalidate(Long id) {
+        books.synchronous().invalidate(id);
+    }
+
+    public void invalidateAll() {
+        books.synchronous().invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.entity() == CatalogEntity.BOOK && !event.isAll()) {
+            invalidate(event.id());
+        } else {
+            invalidateAll();
+        }
+    }
+
+    BookDto load(Long id) {
+        return readOnlyTransaction.execute(status -> bookRepository.findBookById(id)
+                .map(bookMapper::toDto)
+                .orElseThrow(
+                        () -> new EntityNotFoundException("Can't find book by id: " + id)));
+    }
+
+    Map<Long, BookDto> loadAll(Collection<? extends Long> ids) {
+        return readOnlyTransaction.execute(status -> bookRepository
+                .findAllWithCategoriesByIdIn(List.copyOf(ids)).stream()
+                .map(bookMapper::toDto)
+                .collect(Collectors.toMap(BookDto::getId, Function.identity())));
+    }
+
+    private BookDto getCached(Long id) {
+        try {
+            return books.get(id).get(loadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new CacheLoadTimeoutException("Timed out loading book with id " + id);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Can't load book with id " + id, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheLoadTimeoutException("Interrupted loading book with id " + id);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.bookstore.cache;
+
+import com.bookstore.catalog.BookJsonCache;
+import com.bookstore.catalog.CatalogIndex;
+import com.bookstore.repository.category.CategoryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.warmup.enabled", havingValue = "true")
+public class CacheWarmer implements ApplicationRunner {
+    private final PopularitySnapshotStore snapshotStore;
+    private final PopularityTracker popularityTracker;
+    private final BookReadCache bookReadCache;
+    private final CatalogIndex catalogIndex;
+    private final BookJsonCache bookJsonCache;
+    private final CategoryRepository categoryRepository;
+    private final Timer duration;
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger loadedBooks = new AtomicInteger();
+    private final AtomicInteger loadedCategories = new AtomicInteger();
+    private final int topBooks;
+    private final int topCategories;
+    private final int parallelism;
+    private final int chunkSize;
+    private final Duration timeout;
+    private volatile boolean finished;
+
+    public CacheWarmer(
+            PopularitySnapshotStore snapshotStore,
+            PopularityTracker popularityTracker,
+            BookReadCache bookReadCache,
+            CatalogIndex catalogIndex,
+            BookJsonCache bookJsonCache,
+            CategoryRepository categoryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.warmup.top-books:1000}") int topBooks,
+            @Value("${cache.warmup.top-categories:100}") int topCategories,
+            @Value("${cache.warmup.parallelism:4}") int parallelism,
+            @Value("${cache.warmup.chunk-size:100}") int chunkSize,
+            @Value("${cache.warmup.timeout:PT60S}") Duration timeout) {
+        this.snapshotStore = snapshotStore;
+        this.popularityTracker = popularityTracker;
+        this.bookReadCache = bookReadCache;
+        this.catalogIndex = catalogIndex;
+        this.bookJsonCache = bookJsonCache;
+        this.categoryRepository = categoryRepository;
+        this.topBooks = topBooks;
+        this.topCategories = topCategories;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.timeout = timeout;
+        this.duration = Timer.builder("bookstore.cache.warmup.duration")
+                .register(meterRegistry);
+        Gauge.builder("bookstore.cache.warmup.progress", this, CacheWarmer::getProgress)
+                .register(meterRegistry);
+        Gauge.builder("bookstore.cache.warmup.loaded", loadedBooks, AtomicInteger::get)
+                .tag("entity", "book")
+                .register(meterRegistry);
+        Gauge.builder("bookstore.cache.warmup.loaded", loadedCategories, AtomicInteger::get)
+                .tag("entity", "category")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    public void warmUp() {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory("cache-warmup-"));
+        try {
+            Map<Long, Long> books = snapshotStore.load(CatalogEntity.BOOK, topBooks);
+            Map<Long, Long> categories = snapshotStore.load(CatalogEntity.CATEGORY,
+                    topCategories);
+            popularityTracker.seed(books);
+            total.set(books.size() + categories.size());
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (List<Long> chunk : chunks(categories.keySet())) {
+                tasks.add(CompletableFuture.runAsync(() -> loadedCategories.addAndGet(
+                        categoryRepository.findAllById(chunk).size()), executor));
+            }
+            for (List<Long> chunk : chunks(books.keySet())) {
+                tasks.add(CompletableFuture.runAsync(() -> loadedBooks.addAndGet(
+                        warmBooks(chunk)), executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up didn't finish within {}, continuing startup", timeout);
+        } catch (ExecutionException | DataAccessException e) {
+            log.warn("Cache warm-up failed, continuing startup with cold caches", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            finished = true;
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        log.info("Warmed up {} books and {} categories of {} popular entries in {} ms",
+                loadedBooks.get(), loadedCategories.get(), total.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    public double getProgress() {
+        int expected = total.get();
+        if (expected == 0) {
+            return finished ? 1.0 : 0.0;
+        }
+        return Math.min(1.0, (loadedBooks.get() + loadedCategories.get()) / (double) expected);
+    }
+
+    private int warmBooks(List<Long> ids) {
+        if (!catalogIndex.isReady()) {
+            return bookReadCache.preload(ids);
+        }
+        return (int) ids.stream()
+                .map(bookJsonCache::find)
+                .filter(Optional::isPresent)
+                .count();
+    }
+
+    private List<List<Long>> chunks(Iterable<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> chunk = new ArrayList<>(chunkSize);
+        for (Long id : ids) {
+            chunk.add(id);
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
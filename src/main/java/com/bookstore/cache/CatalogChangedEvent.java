@@ -0,0 +1,19 @@
+package com.bookstore.cache;
+
+public record CatalogChangedEvent(CatalogEntity entity, Long id) {
+    public static CatalogChangedEvent book(Long id) {
+        return new CatalogChangedEvent(CatalogEntity.BOOK, id);
+    }
+
+    public static CatalogChangedEvent category(Long id) {
+        return new CatalogChangedEvent(CatalogEntity.CATEGORY, id);
+    }
+
+    public static CatalogChangedEvent all(CatalogEntity entity) {
+        return new CatalogChangedEvent(entity, null);
+    }
+
+    public boolean isAll() {
+        return id == null;
+    }
+}
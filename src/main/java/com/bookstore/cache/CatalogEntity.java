@@ -0,0 +1,6 @@
+package com.bookstore.cache;
+
+public enum CatalogEntity {
+    BOOK,
+    CATEGORY
+}
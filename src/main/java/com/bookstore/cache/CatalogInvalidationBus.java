@@ -0,0 +1,153 @@
+package com.bookstore.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true")
+public class CatalogInvalidationBus {
+    static final String CHANNEL = "catalog_changes";
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final String ALL_IDS = "*";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int pollInterval;
+    private final long reconnectDelay;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public CatalogInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${cache.invalidation.poll-interval:5000}") int pollInterval,
+            @Value("${cache.invalidation.reconnect-delay:1000}") long reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        jdbcTemplate.query(NOTIFY_SQL, (RowCallbackHandler) resultSet -> {
+        }, CHANNEL, encode(nodeId, event));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "catalog-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        listenerThread.interrupt();
+        listenerThread.join(pollInterval + reconnectDelay);
+    }
+
+    void listen() {
+        boolean listenedBefore = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (listenedBefore) {
+                    log.warn("Re-subscribed to {}, evicting all catalog caches", CHANNEL);
+                    evictAll();
+                } else {
+                    log.info("Listening for catalog changes on {} as node {}", CHANNEL, nodeId);
+                }
+                listenedBefore = true;
+                poll(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Lost catalog invalidation subscription, retrying in {} ms",
+                            reconnectDelay, e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    void onNotification(String payload) {
+        decode(nodeId, payload).ifPresent(eventPublisher::publishEvent);
+    }
+
+    static String encode(String nodeId, CatalogChangedEvent event) {
+        return nodeId + ":" + event.entity() + ":" + (event.isAll() ? ALL_IDS : event.id());
+    }
+
+    static Optional<CatalogChangedEvent> decode(String nodeId, String payload) {
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return Optional.empty();
+        }
+        try {
+            CatalogEntity entity = CatalogEntity.valueOf(parts[1]);
+            return Optional.of(ALL_IDS.equals(parts[2]) ? CatalogChangedEvent.all(entity)
+                    : new CatalogChangedEvent(entity, Long.valueOf(parts[2])));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed catalog change notification {}", payload);
+            return Optional.empty();
+        }
+    }
+
+    private void poll(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollInterval);
+            if (notifications != null && notifications.length > 0) {
+                Arrays.stream(notifications)
+                        .map(PGNotification::getParameter)
+                        .forEach(this::onNotification);
+            } else if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Catalog invalidation connection is no longer valid");
+            }
+        }
+    }
+
+    private void evictAll() {
+        Arrays.stream(CatalogEntity.values())
+                .map(CatalogChangedEvent::all)
+                .forEach(eventPublisher::publishEvent);
+    }
+
+    private void pause() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(reconnectDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.bookstore.cache;
+
+import com.bookstore.model.Book;
+import com.bookstore.model.Category;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true")
+public class HibernateCacheEvictor {
+    static final String BOOK_CATEGORIES = Book.class.getName() + ".categories";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        switch (event.entity()) {
+            case BOOK -> {
+                if (event.isAll()) {
+                    cache.evictEntityData(Book.class);
+                    cache.evictCollectionData(BOOK_CATEGORIES);
+                } else {
+                    cache.evictEntityData(Book.class, event.id());
+                    cache.evictCollectionData(BOOK_CATEGORIES, event.id());
+                }
+            }
+            case CATEGORY -> {
+                if (event.isAll()) {
+                    cache.evictEntityData(Category.class);
+                } else {
+                    cache.evictEntityData(Category.class, event.id());
+                }
+                cache.evictQueryRegions();
+            }
+            default -> throw new IllegalArgumentException("Unknown entity " + event.entity());
+        }
+    }
+}
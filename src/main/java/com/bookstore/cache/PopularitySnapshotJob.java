@@ -0,0 +1,67 @@
+package com.bookstore.cache;
+
+import com.bookstore.repository.book.BookRepository;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.warmup.enabled", havingValue = "true")
+public class PopularitySnapshotJob {
+    private final PopularityTracker popularityTracker;
+    private final PopularitySnapshotStore snapshotStore;
+    private final BookRepository bookRepository;
+    private final int topBooks;
+    private final int topCategories;
+
+    public PopularitySnapshotJob(
+            PopularityTracker popularityTracker,
+            PopularitySnapshotStore snapshotStore,
+            BookRepository bookRepository,
+            @Value("${cache.warmup.top-books:1000}") int topBooks,
+            @Value("${cache.warmup.top-categories:100}") int topCategories) {
+        this.popularityTracker = popularityTracker;
+        this.snapshotStore = snapshotStore;
+        this.bookRepository = bookRepository;
+        this.topBooks = topBooks;
+        this.topCategories = topCategories;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.warmup.snapshot-interval:60000}",
+            initialDelayString = "${cache.warmup.snapshot-interval:60000}")
+    public void snapshot() {
+        Map<Long, Long> books = popularityTracker.topBooks(topBooks);
+        if (books.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, Long> categories = categoryScores(books);
+            snapshotStore.replace(Map.of(CatalogEntity.BOOK, books,
+                    CatalogEntity.CATEGORY, categories));
+            log.debug("Saved popularity snapshot of {} books and {} categories", books.size(),
+                    categories.size());
+        } catch (DataAccessException e) {
+            log.warn("Can't save popularity snapshot, will retry on next run", e);
+        }
+    }
+
+    private Map<Long, Long> categoryScores(Map<Long, Long> books) {
+        Map<Long, Long> scores = new HashMap<>();
+        for (Object[] row : bookRepository.findCategoryIdsByBookIds(books.keySet())) {
+            scores.merge((Long) row[1], books.get((Long) row[0]), Long::sum);
+        }
+        Map<Long, Long> top = new LinkedHashMap<>();
+        scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(topCategories)
+                .forEachOrdered(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+}
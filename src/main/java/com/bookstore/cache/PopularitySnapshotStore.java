@@ -0,0 +1,52 @@
+package com.bookstore.cache;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cache.warmup.enabled", havingValue = "true")
+public class PopularitySnapshotStore {
+    private static final String DELETE_SQL =
+            "DELETE FROM popularity_snapshots WHERE entity_type = :type";
+    private static final String INSERT_SQL = "INSERT INTO popularity_snapshots "
+            + "(entity_type, entity_id, score, captured_at) "
+            + "VALUES (:type, :id, :score, :capturedAt)";
+    private static final String SELECT_SQL = "SELECT entity_id, score FROM popularity_snapshots "
+            + "WHERE entity_type = :type ORDER BY score DESC, entity_id LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void replace(Map<CatalogEntity, Map<Long, Long>> snapshot) {
+        LocalDateTime capturedAt = LocalDateTime.now();
+        snapshot.forEach((entity, scores) -> {
+            jdbcTemplate.update(DELETE_SQL, Map.of("type", entity.name()));
+            MapSqlParameterSource[] rows = scores.entrySet().stream()
+                    .map(entry -> new MapSqlParameterSource()
+                            .addValue("type", entity.name())
+                            .addValue("id", entry.getKey())
+                            .addValue("score", entry.getValue())
+                            .addValue("capturedAt", capturedAt))
+                    .toArray(MapSqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Long> load(CatalogEntity entity, int limit) {
+        Map<Long, Long> scores = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_SQL, Map.of("type", entity.name(), "limit", limit),
+                resultSet -> {
+                    scores.put(resultSet.getLong("entity_id"), resultSet.getLong("score"));
+                });
+        return scores;
+    }
+}
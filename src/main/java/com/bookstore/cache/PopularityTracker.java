@@ -0,0 +1,68 @@
+package com.bookstore.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PopularityTracker {
+    private final Map<Long, LongAdder> bookHits = new ConcurrentHashMap<>();
+    private final int maxTrackedBooks;
+
+    public PopularityTracker(
+            @Value("${cache.popularity.max-tracked-books:100000}") int maxTrackedBooks) {
+        this.maxTrackedBooks = maxTrackedBooks;
+    }
+
+    public void recordBook(Long id) {
+        LongAdder hits = hitsOf(id);
+        if (hits != null) {
+            hits.increment();
+        }
+    }
+
+    public void seed(Map<Long, Long> scores) {
+        scores.forEach((id, score) -> {
+            LongAdder hits = hitsOf(id);
+            if (hits != null) {
+                hits.add(score);
+            }
+        });
+    }
+
+    public Map<Long, Long> topBooks(int limit) {
+        Map<Long, Long> top = new LinkedHashMap<>();
+        bookHits.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(limit)
+                .forEachOrdered(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.popularity.decay-interval:60000}",
+            initialDelayString = "${cache.popularity.decay-interval:60000}")
+    public void decay() {
+        bookHits.forEach((id, hits) -> {
+            long halved = hits.sumThenReset() / 2;
+            if (halved == 0) {
+                bookHits.remove(id, hits);
+            } else {
+                hits.add(halved);
+            }
+        });
+    }
+
+    private LongAdder hitsOf(Long id) {
+        LongAdder hits = bookHits.get(id);
+        if (hits != null || bookHits.size() >= maxTrackedBooks) {
+            return hits;
+        }
+        return bookHits.computeIfAbsent(id, key -> new LongAdder());
+    }
+}
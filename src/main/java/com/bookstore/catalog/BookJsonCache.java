@@ -0,0 +1,62 @@
+package com.bookstore.catalog;
+
+import com.bookstore.mapper.BookMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookJsonCache {
+    private final CatalogIndex catalogIndex;
+    private final BookMapper bookMapper;
+    private final ObjectMapper objectMapper;
+    private final Counter hits;
+    private final Counter misses;
+
+    public BookJsonCache(CatalogIndex catalogIndex,
+                         BookMapper bookMapper,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+        this.catalogIndex = catalogIndex;
+        this.bookMapper = bookMapper;
+        this.objectMapper = objectMapper;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    public Optional<ByteBuffer> find(long id) {
+        boolean[] serialized = new boolean[1];
+        Optional<ByteBuffer> json = catalogIndex.json(id, entry -> {
+            serialized[0] = true;
+            return bytes(bookMapper.toDto(entry));
+        });
+        if (json.isPresent()) {
+            (serialized[0] ? misses : hits).increment();
+        }
+        return json;
+    }
+
+    public ByteBuffer serialize(Object value) {
+        return ByteBuffer.wrap(bytes(value)).asReadOnlyBuffer();
+    }
+
+    private byte[] bytes(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Can't serialize " + value, e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("bookstore.catalog.json")
+                .description("Book responses served from pre-serialized catalog JSON")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookstore.catalog;
+
+import java.math.BigDecimal;
+
+public record CatalogEntry(long id, String title, String author, String isbn,
+                           BigDecimal price, String description, String coverImage,
+                           int stock, long version, long[] categoryIds) {
+}
@@ -0,0 +1,150 @@
+package com.bookstore.catalog;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CatalogIndex {
+    private final OffHeapCatalogStore store;
+    private final Map<Long, long[]> booksByCategory = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public CatalogIndex(@Value("${catalog.store.chunk-size:67108864}") int chunkSize) {
+        this.store = new OffHeapCatalogStore(chunkSize);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    public OffHeapCatalogStore getStore() {
+        return store;
+    }
+
+    public Optional<CatalogEntry> find(long id) {
+        return store.find(id);
+    }
+
+    public OptionalLong version(long id) {
+        return store.version(id);
+    }
+
+    public Optional<ByteBuffer> json(long id, Function<CatalogEntry, byte[]> serializer) {
+        return store.json(id, serializer);
+    }
+
+    public List<CatalogEntry> findInCategory(long categoryId) {
+        long[] ids = booksByCategory.getOrDefault(categoryId, new long[0]);
+        return Arrays.stream(ids)
+                .mapToObj(store::find)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    public List<Long> bookIdsInCategory(long categoryId) {
+        long[] ids = booksByCategory.getOrDefault(categoryId, new long[0]);
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    public void forEach(Consumer<CatalogEntry> consumer) {
+        store.forEach(consumer);
+    }
+
+    public synchronized void put(CatalogEntry entry) {
+        store.find(entry.id()).ifPresent(previous -> unlink(previous.id(),
+                previous.categoryIds()));
+        store.put(entry);
+        for (long categoryId : entry.categoryIds()) {
+            booksByCategory.compute(categoryId, (key, ids) -> insert(ids, entry.id()));
+        }
+    }
+
+    public synchronized void remove(long id) {
+        store.find(id).ifPresent(previous -> {
+            store.remove(id);
+            unlink(id, previous.categoryIds());
+        });
+    }
+
+    public synchronized void removeCategory(long categoryId) {
+        booksByCategory.remove(categoryId);
+    }
+
+    public synchronized <E extends Exception> void replaceAll(EntrySource<E> source) throws E {
+        int generation = store.beginGeneration();
+        Map<Long, LongStream.Builder> members = new HashMap<>();
+        source.forEach(entry -> {
+            store.put(entry);
+            for (long categoryId : entry.categoryIds()) {
+                members.computeIfAbsent(categoryId, key -> LongStream.builder())
+                        .add(entry.id());
+            }
+        });
+        store.removeOlderThan(generation);
+        Map<Long, long[]> rebuilt = new HashMap<>();
+        members.forEach((categoryId, ids) -> rebuilt.put(categoryId,
+                ids.build().sorted().toArray()));
+        booksByCategory.keySet().retainAll(rebuilt.keySet());
+        booksByCategory.putAll(rebuilt);
+    }
+
+    void markReady() {
+        ready = true;
+    }
+
+    private void unlink(long id, long[] categoryIds) {
+        for (long categoryId : categoryIds) {
+            booksByCategory.computeIfPresent(categoryId, (key, ids) -> delete(ids, id));
+        }
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        if (ids == null) {
+            return new long[] {id};
+        }
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return ids;
+        }
+        int insertAt = -position - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = id;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        return updated;
+    }
+
+    private static long[] delete(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, position);
+        System.arraycopy(ids, position + 1, updated, position, ids.length - position - 1);
+        return updated;
+    }
+
+    @FunctionalInterface
+    public interface EntrySource<E extends Exception> {
+        void forEach(Consumer<CatalogEntry> consumer) throws E;
+    }
+}
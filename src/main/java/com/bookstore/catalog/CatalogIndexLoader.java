@@ -0,0 +1,324 @@
+package com.bookstore.catalog;
+
+import com.bookstore.cache.CatalogChangedEvent;
+import com.bookstore.cache.CatalogEntity;
+import com.bookstore.model.Book;
+import com.bookstore.model.Category;
+import com.bookstore.repository.book.BookRepository;
+import com.bookstore.repository.category.CategoryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.index.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CatalogIndexLoader implements ApplicationRunner {
+    private static final String BOOKS_SQL = "SELECT id, title, author, isbn, price, "
+            + "description, cover_image, stock, version FROM books WHERE is_deleted = FALSE "
+            + "ORDER BY id";
+    private static final String MEMBERSHIPS_SQL = "SELECT bc.book_id, bc.category_id "
+            + "FROM books_categories bc JOIN categories c ON c.id = bc.category_id "
+            + "WHERE c.is_deleted = FALSE ORDER BY bc.book_id";
+    private static final String CHANGED_BOOKS_SQL =
+            "SELECT id FROM books WHERE updated_at >= :since OR deleted_at >= :since";
+    private static final String DELETED_CATEGORIES_SQL =
+            "SELECT id FROM categories WHERE deleted_at >= :since";
+    private static final String NOW_SQL = "SELECT CURRENT_TIMESTAMP";
+
+    private final CatalogIndex catalogIndex;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Path snapshotFile;
+    private final Duration maxSnapshotAge;
+    private final Duration changeMargin;
+    private final Set<Long> pendingBooks = new HashSet<>();
+    private final Set<Long> pendingCategories = new HashSet<>();
+    private boolean pendingRebuild;
+    private volatile Instant lastRefresh;
+
+    public CatalogIndexLoader(
+            CatalogIndex catalogIndex,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            BookRepository bookRepository,
+            CategoryRepository categoryRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.index.snapshot-file:data/catalog-index.snapshot}")
+            String snapshotFile,
+            @Value("${catalog.index.max-snapshot-age:P1D}") Duration maxSnapshotAge,
+            @Value("${catalog.index.change-margin:PT1M}") Duration changeMargin) {
+        this.catalogIndex = catalogIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookRepository = bookRepository;
+        this.categoryRepository = categoryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.snapshotFile = Path.of(snapshotFile);
+        this.maxSnapshotAge = maxSnapshotAge;
+        this.changeMargin = changeMargin;
+        Gauge.builder("bookstore.catalog.index.size", catalogIndex, CatalogIndex::size)
+                .register(meterRegistry);
+        OffHeapCatalogStore store = catalogIndex.getStore();
+        Gauge.builder("bookstore.catalog.store.bytes", store, OffHeapCatalogStore::offHeapBytes)
+                .tag("area", "off-heap")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("bookstore.catalog.store.bytes", store, OffHeapCatalogStore::heapBytes)
+                .tag("area", "heap")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("bookstore.catalog.store.bytes", store, OffHeapCatalogStore::wastedBytes)
+                .tag("area", "wasted")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        load();
+    }
+
+    public void load() {
+        final long start = System.nanoTime();
+        String source = "snapshot";
+        Instant loadStarted = databaseNow();
+        lastRefresh = loadStarted;
+        Instant snapshotVersion = restoreSnapshot();
+        if (snapshotVersion == null) {
+            source = "database";
+            rebuild();
+        } else {
+            applyChangesSince(snapshotVersion.minus(changeMargin));
+        }
+        drainPending();
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("bookstore.catalog.index.load")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Loaded catalog index of {} books from {} in {} ms", catalogIndex.size(),
+                source, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        if ("database".equals(source)) {
+            writeSnapshot(loadStarted);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.index.snapshot-interval:300000}",
+            initialDelayString = "${catalog.index.snapshot-interval:300000}")
+    public void snapshot() {
+        if (catalogIndex.isReady()) {
+            writeSnapshot(lastRefresh);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.index.refresh-interval:10000}",
+            initialDelayString = "${catalog.index.refresh-interval:10000}")
+    public void refresh() {
+        if (!catalogIndex.isReady()) {
+            return;
+        }
+        try {
+            Instant started = databaseNow();
+            applyChangesSince(lastRefresh.minus(changeMargin));
+            lastRefresh = started;
+        } catch (DataAccessException e) {
+            log.warn("Can't refresh catalog index, will retry on next run", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        synchronized (pendingBooks) {
+            if (!catalogIndex.isReady()) {
+                if (event.isAll()) {
+                    pendingRebuild = true;
+                } else if (event.entity() == CatalogEntity.BOOK) {
+                    pendingBooks.add(event.id());
+                } else {
+                    pendingCategories.add(event.id());
+                }
+                return;
+            }
+        }
+        try {
+            apply(event);
+        } catch (DataAccessException e) {
+            log.warn("Can't refresh catalog index for {}, rebuilding on next change", event, e);
+        }
+    }
+
+    private void apply(CatalogChangedEvent event) {
+        if (event.isAll()) {
+            rebuild();
+        } else if (event.entity() == CatalogEntity.BOOK) {
+            refreshBooks(List.of(event.id()));
+        } else {
+            refreshCategories(List.of(event.id()));
+        }
+    }
+
+    private Instant restoreSnapshot() {
+        try {
+            Instant modified = Files.getLastModifiedTime(snapshotFile).toInstant();
+            if (modified.isBefore(Instant.now().minus(maxSnapshotAge))) {
+                log.info("Catalog snapshot {} is older than {}, rebuilding", snapshotFile,
+                        maxSnapshotAge);
+                return null;
+            }
+            long[] version = new long[1];
+            catalogIndex.replaceAll(consumer -> version[0] = CatalogSnapshotFile.read(
+                    snapshotFile, consumer));
+            return Instant.ofEpochMilli(version[0]);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Can't read catalog snapshot {}, rebuilding", snapshotFile, e);
+            return null;
+        }
+    }
+
+    private void rebuild() {
+        LongStream.Builder memberBooks = LongStream.builder();
+        LongStream.Builder memberCategories = LongStream.builder();
+        jdbcTemplate.query(MEMBERSHIPS_SQL, resultSet -> {
+            memberBooks.add(resultSet.getLong(1));
+            memberCategories.add(resultSet.getLong(2));
+        });
+        long[] bookIds = memberBooks.build().toArray();
+        long[] categoryIds = memberCategories.build().toArray();
+        catalogIndex.replaceAll(consumer -> {
+            int[] cursor = new int[1];
+            jdbcTemplate.query(BOOKS_SQL, resultSet -> {
+                long id = resultSet.getLong("id");
+                while (cursor[0] < bookIds.length && bookIds[cursor[0]] < id) {
+                    cursor[0]++;
+                }
+                int from = cursor[0];
+                while (cursor[0] < bookIds.length && bookIds[cursor[0]] == id) {
+                    cursor[0]++;
+                }
+                consumer.accept(new CatalogEntry(id, resultSet.getString("title"),
+                        resultSet.getString("author"), resultSet.getString("isbn"),
+                        resultSet.getBigDecimal("price"), resultSet.getString("description"),
+                        resultSet.getString("cover_image"), resultSet.getInt("stock"),
+                        resultSet.getLong("version"),
+                        Arrays.copyOfRange(categoryIds, from, cursor[0])));
+            });
+        });
+    }
+
+    private Instant databaseNow() {
+        return jdbcTemplate.queryForObject(NOW_SQL, Map.of(), Timestamp.class).toInstant();
+    }
+
+    private void applyChangesSince(Instant since) {
+        Map<String, Object> params = Map.of("since", Timestamp.from(since));
+        refreshBooks(jdbcTemplate.queryForList(CHANGED_BOOKS_SQL, params, Long.class));
+        jdbcTemplate.queryForList(DELETED_CATEGORIES_SQL, params, Long.class)
+                .forEach(catalogIndex::removeCategory);
+    }
+
+    private void refreshBooks(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<CatalogEntry> live = readOnlyTransaction.execute(status -> bookRepository
+                .findAllWithCategoriesByIdIn(ids).stream()
+                .map(CatalogIndexLoader::toEntry)
+                .toList());
+        Set<Long> removed = new HashSet<>(ids);
+        for (CatalogEntry entry : live) {
+            catalogIndex.put(entry);
+            removed.remove(entry.id());
+        }
+        removed.forEach(catalogIndex::remove);
+    }
+
+    private void refreshCategories(List<Long> ids) {
+        Set<Long> live = new HashSet<>();
+        categoryRepository.findAllById(ids).forEach(category -> live.add(category.getId()));
+        ids.stream()
+                .filter(id -> !live.contains(id))
+                .forEach(catalogIndex::removeCategory);
+    }
+
+    private void drainPending() {
+        while (true) {
+            List<Long> books;
+            List<Long> categories;
+            boolean rebuild;
+            synchronized (pendingBooks) {
+                if (pendingBooks.isEmpty() && pendingCategories.isEmpty() && !pendingRebuild) {
+                    catalogIndex.markReady();
+                    return;
+                }
+                books = List.copyOf(pendingBooks);
+                categories = List.copyOf(pendingCategories);
+                rebuild = pendingRebuild;
+                pendingBooks.clear();
+                pendingCategories.clear();
+                pendingRebuild = false;
+            }
+            if (rebuild) {
+                rebuild();
+            } else {
+                refreshBooks(books);
+                refreshCategories(categories);
+            }
+        }
+    }
+
+    private void writeSnapshot(Instant version) {
+        try {
+            CatalogSnapshotFile.write(snapshotFile, version.toEpochMilli(),
+                    catalogIndex::forEach);
+            log.debug("Saved catalog snapshot of {} books to {}", catalogIndex.size(),
+                    snapshotFile);
+        } catch (IOException e) {
+            log.warn("Can't write catalog snapshot {}", snapshotFile, e);
+        }
+    }
+
+    private static CatalogEntry toEntry(Book book) {
+        return new CatalogEntry(book.getId(), book.getTitle(), book.getAuthor(),
+                book.getIsbn(), book.getPrice(), book.getDescription(), book.getCoverImage(),
+                book.getStock(), book.getVersion(), book.getCategories().stream()
+                        .mapToLong(Category::getId)
+                        .sorted()
+                        .toArray());
+    }
+}
@@ -0,0 +1,172 @@
+package com.bookstore.catalog;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+public final class CatalogSnapshotFile {
+    static final int MAGIC = 0x424B4353;
+    static final int FORMAT_VERSION = 3;
+    private static final int NULL_LENGTH = -1;
+    private static final int TRAILER_BYTES = 2 * Integer.BYTES + Long.BYTES;
+
+    private CatalogSnapshotFile() {
+    }
+
+    public static void write(Path file, long version,
+                             CatalogIndex.EntrySource<RuntimeException> entries)
+            throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    Channels.newOutputStream(channel), new CRC32());
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(version);
+            Map<String, Integer> authors = new LinkedHashMap<>();
+            int[] books = new int[1];
+            entries.forEach(entry -> {
+                Integer author = authors.putIfAbsent(entry.author(), authors.size());
+                writeEntry(out, entry, author == null ? authors.size() - 1 : author);
+                books[0]++;
+            });
+            int authorsOffset = out.size();
+            out.writeInt(authors.size());
+            for (String author : authors.keySet()) {
+                writeString(out, author);
+            }
+            out.writeInt(authorsOffset);
+            out.writeInt(books[0]);
+            out.flush();
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static long read(Path file, Consumer<CatalogEntry> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Catalog snapshot is too large to map: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            verifyChecksum(buffer, (int) size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a catalog snapshot: " + file);
+            }
+            int format = buffer.getInt();
+            if (format != FORMAT_VERSION) {
+                throw new IOException("Unsupported catalog snapshot format " + format);
+            }
+            final long version = buffer.getLong();
+            final int entriesOffset = buffer.position();
+            int trailer = (int) size - TRAILER_BYTES;
+            buffer.position(buffer.getInt(trailer));
+            String[] authors = new String[buffer.getInt()];
+            for (int i = 0; i < authors.length; i++) {
+                authors[i] = readString(buffer);
+            }
+            int books = buffer.getInt(trailer + Integer.BYTES);
+            buffer.position(entriesOffset);
+            for (int i = 0; i < books; i++) {
+                long id = buffer.getLong();
+                String title = readString(buffer);
+                String author = authors[buffer.getInt()];
+                String isbn = readString(buffer);
+                long unscaledPrice = buffer.getLong();
+                BigDecimal price = new BigDecimal(BigInteger.valueOf(unscaledPrice),
+                        buffer.getInt());
+                String description = readString(buffer);
+                String coverImage = readString(buffer);
+                int stock = buffer.getInt();
+                long bookVersion = buffer.getLong();
+                long[] categoryIds = new long[buffer.getInt()];
+                buffer.asLongBuffer().get(categoryIds);
+                buffer.position(buffer.position() + categoryIds.length * Long.BYTES);
+                consumer.accept(new CatalogEntry(id, title, author, isbn, price, description,
+                        coverImage, stock, bookVersion, categoryIds));
+            }
+            return version;
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted catalog snapshot: " + file, e);
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, CatalogEntry entry, int author) {
+        try {
+            out.writeLong(entry.id());
+            writeString(out, entry.title());
+            out.writeInt(author);
+            writeString(out, entry.isbn());
+            out.writeLong(entry.price().unscaledValue().longValueExact());
+            out.writeInt(entry.price().scale());
+            writeString(out, entry.description());
+            writeString(out, entry.coverImage());
+            out.writeInt(entry.stock());
+            out.writeLong(entry.version());
+            out.writeInt(entry.categoryIds().length);
+            for (long categoryId : entry.categoryIds()) {
+                out.writeLong(categoryId);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        String value = StandardCharsets.UTF_8.decode(buffer.slice(buffer.position(), length))
+                .toString();
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void verifyChecksum(MappedByteBuffer buffer, int size) throws IOException {
+        if (size < TRAILER_BYTES) {
+            throw new IOException("Catalog snapshot is truncated");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, size - Long.BYTES));
+        if (crc.getValue() != buffer.getLong(size - Long.BYTES)) {
+            throw new IOException("Catalog snapshot checksum mismatch");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.bookstore.catalog;
+
+import java.util.Arrays;
+
+final class LongIntHashMap {
+    static final int MISSING = -1;
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    int get(long key) {
+        for (int index = index(key); ; index = (index + 1) & mask) {
+            long candidate = keys[index];
+            if (candidate == key) {
+                return values[index];
+            }
+            if (candidate == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key " + EMPTY + " is reserved");
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int index = index(key);
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        if (keys[index] == EMPTY) {
+            size++;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    int remove(long key) {
+        int index = index(key);
+        while (keys[index] != key) {
+            if (keys[index] == EMPTY) {
+                return MISSING;
+            }
+            index = (index + 1) & mask;
+        }
+        final int removed = values[index];
+        int gap = index;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = index(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long heapBytes() {
+        return (long) keys.length * Long.BYTES + (long) values.length * Integer.BYTES;
+    }
+
+    void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private int index(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+}
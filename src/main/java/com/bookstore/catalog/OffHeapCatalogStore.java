@@ -0,0 +1,395 @@
+package com.bookstore.catalog;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class OffHeapCatalogStore {
+    // Fixed-width record: 8-byte id, price and blob references, 4-byte scale, stock and
+    // generation, then the JSON reference, revision and version. 100 bytes in total
+    private static final int ID = 0;
+    private static final int PRICE = 8;
+    private static final int TITLE = 16;
+    private static final int AUTHOR = 24;
+    private static final int ISBN = 32;
+    private static final int DESCRIPTION = 40;
+    private static final int COVER_IMAGE = 48;
+    private static final int CATEGORIES = 56;
+    private static final int SCALE = 64;
+    private static final int STOCK = 68;
+    private static final int GENERATION = 72;
+    private static final int JSON = 76;
+    private static final int REVISION = 84;
+    private static final int VERSION = 92;
+    static final int RECORD_BYTES = VERSION + Long.BYTES;
+    private static final int[] BLOBS = {TITLE, AUTHOR, ISBN, DESCRIPTION, COVER_IMAGE,
+            CATEGORIES};
+    private static final int[] REFERENCES = {TITLE, AUTHOR, ISBN, DESCRIPTION, COVER_IMAGE,
+            CATEGORIES, JSON};
+    private static final long NULL_REF = -1L;
+    private static final int ITERATION_BATCH = 1024;
+
+    private final int chunkSize;
+    private final int recordsPerChunk;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ByteBuffer> records = new ArrayList<>();
+    private final LongIntHashMap slots = new LongIntHashMap(1024);
+    private List<ByteBuffer> arena = new ArrayList<>();
+    private int arenaPosition;
+    private long arenaLiveBytes;
+    private int[] freeSlots = new int[64];
+    private int freeSlotCount;
+    private int nextSlot;
+    private int generation;
+    private long revision;
+
+    public OffHeapCatalogStore(int chunkSize) {
+        if (chunkSize < RECORD_BYTES) {
+            throw new IllegalArgumentException("Chunk size must hold at least one record");
+        }
+        this.chunkSize = chunkSize;
+        this.recordsPerChunk = chunkSize / RECORD_BYTES;
+    }
+
+    public Optional<CatalogEntry> find(long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slots.get(id);
+            return slot == LongIntHashMap.MISSING ? Optional.empty() : Optional.of(read(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(CatalogEntry entry) {
+        byte[][] blobs = {utf8(entry.title()), utf8(entry.author()), utf8(entry.isbn()),
+                utf8(entry.description()), utf8(entry.coverImage()),
+                categories(entry.categoryIds())};
+        for (byte[] blob : blobs) {
+            if (blob != null && blob.length + Integer.BYTES > chunkSize) {
+                throw new IllegalArgumentException("Book " + entry.id()
+                        + " has a field larger than the catalog store chunk size");
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = slots.get(entry.id());
+            if (slot == LongIntHashMap.MISSING) {
+                slot = allocateSlot();
+                slots.put(entry.id(), slot);
+            } else {
+                releaseBlobs(slot);
+            }
+            ByteBuffer chunk = records.get(slot / recordsPerChunk);
+            int offset = (slot % recordsPerChunk) * RECORD_BYTES;
+            chunk.putLong(offset + ID, entry.id());
+            chunk.putLong(offset + PRICE, entry.price().unscaledValue().longValueExact());
+            chunk.putInt(offset + SCALE, entry.price().scale());
+            chunk.putInt(offset + STOCK, entry.stock());
+            chunk.putLong(offset + VERSION, entry.version());
+            chunk.putInt(offset + GENERATION, generation);
+            chunk.putLong(offset + REVISION, ++revision);
+            chunk.putLong(offset + JSON, NULL_REF);
+            for (int i = 0; i < BLOBS.length; i++) {
+                chunk.putLong(offset + BLOBS[i], append(blobs[i]));
+            }
+            compactIfWasteful();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public OptionalLong version(long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slots.get(id);
+            return slot == LongIntHashMap.MISSING ? OptionalLong.empty()
+                    : OptionalLong.of(records.get(slot / recordsPerChunk)
+                            .getLong((slot % recordsPerChunk) * RECORD_BYTES + VERSION));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<ByteBuffer> json(long id, Function<CatalogEntry, byte[]> serializer) {
+        CatalogEntry entry;
+        long entryRevision;
+        lock.readLock().lock();
+        try {
+            int slot = slots.get(id);
+            if (slot == LongIntHashMap.MISSING) {
+                return Optional.empty();
+            }
+            ByteBuffer chunk = records.get(slot / recordsPerChunk);
+            int offset = (slot % recordsPerChunk) * RECORD_BYTES;
+            long ref = chunk.getLong(offset + JSON);
+            if (ref != NULL_REF) {
+                ByteBuffer source = arena.get((int) (ref >>> 32));
+                return Optional.of(source.slice((int) ref + Integer.BYTES,
+                        source.getInt((int) ref)).asReadOnlyBuffer());
+            }
+            entry = read(slot);
+            entryRevision = chunk.getLong(offset + REVISION);
+        } finally {
+            lock.readLock().unlock();
+        }
+        byte[] json = serializer.apply(entry);
+        if (json.length + Integer.BYTES <= chunkSize) {
+            lock.writeLock().lock();
+            try {
+                int slot = slots.get(id);
+                if (slot != LongIntHashMap.MISSING) {
+                    ByteBuffer chunk = records.get(slot / recordsPerChunk);
+                    int offset = (slot % recordsPerChunk) * RECORD_BYTES;
+                    if (chunk.getLong(offset + REVISION) == entryRevision
+                            && chunk.getLong(offset + JSON) == NULL_REF) {
+                        chunk.putLong(offset + JSON, append(json));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return Optional.of(ByteBuffer.wrap(json).asReadOnlyBuffer());
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = slots.remove(id);
+            if (slot == LongIntHashMap.MISSING) {
+                return false;
+            }
+            releaseBlobs(slot);
+            records.get(slot / recordsPerChunk)
+                    .putLong((slot % recordsPerChunk) * RECORD_BYTES + ID, 0L);
+            if (freeSlotCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeSlotCount++] = slot;
+            compactIfWasteful();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void forEach(Consumer<CatalogEntry> consumer) {
+        for (int from = 0; ; from += ITERATION_BATCH) {
+            List<CatalogEntry> batch = new ArrayList<>(ITERATION_BATCH);
+            lock.readLock().lock();
+            try {
+                if (from >= nextSlot) {
+                    return;
+                }
+                for (int slot = from; slot < Math.min(from + ITERATION_BATCH, nextSlot); slot++) {
+                    if (isLive(slot)) {
+                        batch.add(read(slot));
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            batch.forEach(consumer);
+        }
+    }
+
+    public int beginGeneration() {
+        lock.writeLock().lock();
+        try {
+            return ++generation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeOlderThan(int currentGeneration) {
+        for (int from = 0; ; from += ITERATION_BATCH) {
+            lock.writeLock().lock();
+            try {
+                if (from >= nextSlot) {
+                    return;
+                }
+                for (int slot = from; slot < Math.min(from + ITERATION_BATCH, nextSlot); slot++) {
+                    ByteBuffer chunk = records.get(slot / recordsPerChunk);
+                    int offset = (slot % recordsPerChunk) * RECORD_BYTES;
+                    if (isLive(slot) && chunk.getInt(offset + GENERATION) < currentGeneration) {
+                        remove(chunk.getLong(offset + ID));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) (records.size() + arena.size()) * chunkSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long heapBytes() {
+        lock.readLock().lock();
+        try {
+            return slots.heapBytes() + (long) freeSlots.length * Integer.BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long wastedBytes() {
+        lock.readLock().lock();
+        try {
+            return arenaUsedBytes() - arenaLiveBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private CatalogEntry read(int slot) {
+        ByteBuffer chunk = records.get(slot / recordsPerChunk);
+        int offset = (slot % recordsPerChunk) * RECORD_BYTES;
+        return new CatalogEntry(
+                chunk.getLong(offset + ID),
+                string(chunk.getLong(offset + TITLE)),
+                string(chunk.getLong(offset + AUTHOR)),
+                string(chunk.getLong(offset + ISBN)),
+                new BigDecimal(BigInteger.valueOf(chunk.getLong(offset + PRICE)),
+                        chunk.getInt(offset + SCALE)),
+                string(chunk.getLong(offset + DESCRIPTION)),
+                string(chunk.getLong(offset + COVER_IMAGE)),
+                chunk.getInt(offset + STOCK),
+                chunk.getLong(offset + VERSION),
+                categoryIds(chunk.getLong(offset + CATEGORIES)));
+    }
+
+    private boolean isLive(int slot) {
+        return records.get(slot / recordsPerChunk)
+                .getLong((slot % recordsPerChunk) * RECORD_BYTES + ID) != 0L;
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (nextSlot == records.size() * recordsPerChunk) {
+            records.add(ByteBuffer.allocateDirect(recordsPerChunk * RECORD_BYTES));
+        }
+        return nextSlot++;
+    }
+
+    private long append(byte[] blob) {
+        if (blob == null) {
+            return NULL_REF;
+        }
+        int length = blob.length + Integer.BYTES;
+        if (arena.isEmpty() || arenaPosition + length > chunkSize) {
+            arena.add(ByteBuffer.allocateDirect(chunkSize));
+            arenaPosition = 0;
+        }
+        int chunkIndex = arena.size() - 1;
+        ByteBuffer chunk = arena.get(chunkIndex);
+        chunk.putInt(arenaPosition, blob.length);
+        chunk.put(arenaPosition + Integer.BYTES, blob);
+        long ref = ((long) chunkIndex << 32) | arenaPosition;
+        arenaPosition += length;
+        arenaLiveBytes += length;
+        return ref;
+    }
+
+    private static byte[] blob(List<ByteBuffer> chunks, long ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        ByteBuffer chunk = chunks.get((int) (ref >>> 32));
+        int offset = (int) ref;
+        byte[] bytes = new byte[chunk.getInt(offset)];
+        chunk.get(offset + Integer.BYTES, bytes);
+        return bytes;
+    }
+
+    private String string(long ref) {
+        byte[] bytes = blob(arena, ref);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long[] categoryIds(long ref) {
+        ByteBuffer chunk = arena.get((int) (ref >>> 32));
+        int offset = (int) ref;
+        long[] ids = new long[chunk.getInt(offset) / Long.BYTES];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = chunk.getLong(offset + Integer.BYTES + i * Long.BYTES);
+        }
+        return ids;
+    }
+
+    private void releaseBlobs(int slot) {
+        ByteBuffer chunk = records.get(slot / recordsPerChunk);
+        int offset = (slot % recordsPerChunk) * RECORD_BYTES;
+        for (int field : REFERENCES) {
+            long ref = chunk.getLong(offset + field);
+            if (ref != NULL_REF) {
+                arenaLiveBytes -= arena.get((int) (ref >>> 32)).getInt((int) ref)
+                        + Integer.BYTES;
+            }
+        }
+    }
+
+    private long arenaUsedBytes() {
+        return arena.isEmpty() ? 0 : (long) (arena.size() - 1) * chunkSize + arenaPosition;
+    }
+
+    private void compactIfWasteful() {
+        long used = arenaUsedBytes();
+        if (arena.size() < 2 || arenaLiveBytes * 2 > used) {
+            return;
+        }
+        List<ByteBuffer> old = arena;
+        arena = new ArrayList<>();
+        arenaPosition = 0;
+        arenaLiveBytes = 0;
+        for (int slot = 0; slot < nextSlot; slot++) {
+            if (!isLive(slot)) {
+                continue;
+            }
+            ByteBuffer chunk = records.get(slot / recordsPerChunk);
+            int offset = (slot % recordsPerChunk) * RECORD_BYTES;
+            for (int field : REFERENCES) {
+                chunk.putLong(offset + field, append(blob(old, chunk.getLong(offset + field))));
+            }
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] categories(long[] categoryIds) {
+        ByteBuffer buffer = ByteBuffer.allocate(categoryIds.length * Long.BYTES);
+        buffer.asLongBuffer().put(categoryIds);
+        return buffer.array();
+    }
+}
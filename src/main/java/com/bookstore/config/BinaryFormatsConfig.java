@@ -0,0 +1,46 @@
+package com.bookstore.config;
+
+import com.bookstore.json.TranscodingJsonFragmentsHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class BinaryFormatsConfig {
+    public static final MediaType APPLICATION_SMILE =
+            new MediaType("application", "x-jackson-smile");
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public TranscodingJsonFragmentsHttpMessageConverter cborJsonFragmentsHttpMessageConverter(
+            ObjectMapper objectMapper) {
+        return new TranscodingJsonFragmentsHttpMessageConverter(objectMapper.getFactory(),
+                new CBORFactory(), MediaType.APPLICATION_CBOR);
+    }
+
+    @Bean
+    public TranscodingJsonFragmentsHttpMessageConverter smileJsonFragmentsHttpMessageConverter(
+            ObjectMapper objectMapper) {
+        return new TranscodingJsonFragmentsHttpMessageConverter(objectMapper.getFactory(),
+                new SmileFactory(), APPLICATION_SMILE);
+    }
+}
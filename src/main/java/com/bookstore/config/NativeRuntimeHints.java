@@ -0,0 +1,69 @@
+package com.bookstore.config;
+
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+    static final String MODEL_PACKAGE = "com.bookstore.model";
+    static final String DTO_PACKAGE = "com.bookstore.dto";
+    static final String MAPPER_IMPL_PACKAGE = "com.bookstore.mapper.impl";
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    private final BindingReflectionHintsRegistrar bindingHints =
+            new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String mapper : classesIn(MAPPER_IMPL_PACKAGE, classLoader)) {
+            hints.reflection().registerType(TypeReference.of(mapper),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (String entity : classesIn(MODEL_PACKAGE, classLoader)) {
+            hints.reflection().registerType(TypeReference.of(entity),
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        for (String dto : classesIn(DTO_PACKAGE, classLoader)) {
+            bindingHints.registerReflectionHints(hints.reflection(),
+                    ClassUtils.resolveClassName(dto, classLoader));
+        }
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+        hints.resources().registerPattern("db/changelog/db.changelog-master.yaml");
+        hints.resources().registerPattern("db/changelog/changes/*.yaml");
+        hints.resources().registerPattern("ehcache.xml");
+    }
+
+    private static List<String> classesIn(String basePackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner =
+                new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter((reader, factory) -> true);
+        return scanner.findCandidateComponents(basePackage).stream()
+                .map(BeanDefinition::getBeanClassName)
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.bookstore.config;
+
+import com.bookstore.replica.ReadYourWritesTracker;
+import com.bookstore.replica.ReplicaLagMonitor;
+import com.bookstore.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public DataSource primaryDataSource(
+            DataSourceProperties dataSourceProperties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetailsProvider) {
+        DataSourceBuilder<HikariDataSource> builder = dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class);
+        JdbcConnectionDetails connectionDetails = connectionDetailsProvider.getIfAvailable();
+        if (connectionDetails != null) {
+            builder.driverClassName(connectionDetails.getDriverClassName())
+                    .url(connectionDetails.getJdbcUrl())
+                    .username(connectionDetails.getUsername())
+                    .password(connectionDetails.getPassword());
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public DataSource replicaDataSource(
+            DataSourceProperties dataSourceProperties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}")
+            String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}")
+            String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.replica.max-lag:PT5S}") Duration maxLag,
+            @Value("${datasource.replica.lag-check-interval:1000}") long lagCheckInterval,
+            MeterRegistry meterRegistry) {
+        JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        replicaJdbcTemplate.setQueryTimeout(
+                (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(lagCheckInterval)));
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicaJdbcTemplate, maxLag,
+                Duration.ofMillis(lagCheckInterval), meterRegistry);
+        lagMonitor.check();
+        return lagMonitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replica.sticky-window:PT5S}") Duration stickyWindow) {
+        return new ReadYourWritesTracker(stickyWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        log.info("Routing read-only transactions to the read replica");
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource,
+                replicaDataSource, replicaLagMonitor, readYourWritesTracker, meterRegistry));
+    }
+}
@@ -4,6 +4,9 @@ import static org.springframework.security.config.Customizer.withDefaults;
 
 import com.bookstore.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
@@ -41,6 +44,11 @@ public class SecurityConfig {
                         auth -> auth
                                 .requestMatchers("/auth/**")
                                 .permitAll()
+                                .requestMatchers(EndpointRequest.to(HealthEndpoint.class,
+                                        PrometheusScrapeEndpoint.class))
+                                .permitAll()
+                                .requestMatchers(EndpointRequest.toAnyEndpoint())
+                                .hasRole("ADMIN")
                                 .anyRequest()
                                 .authenticated()
                 )
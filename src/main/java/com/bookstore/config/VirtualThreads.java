@@ -0,0 +1,71 @@
+package com.bookstore.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+public final class VirtualThreads {
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle FACTORY;
+    private static final MethodHandle THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        MethodHandle threadPerTaskExecutor = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Class<?> virtualBuilder = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+                    MethodType.methodType(virtualBuilder));
+            name = lookup.findVirtual(virtualBuilder, "name",
+                    MethodType.methodType(virtualBuilder, String.class, long.class));
+            factory = lookup.findVirtual(builder, "factory",
+                    MethodType.methodType(ThreadFactory.class));
+            threadPerTaskExecutor = lookup.findStatic(Executors.class,
+                    "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        THREAD_PER_TASK_EXECUTOR = threadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads need Java 21, running on "
+                    + Runtime.version());
+        }
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(), namePrefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Can't create virtual thread factory", e);
+        }
+    }
+
+    public static ExecutorService newExecutor(String namePrefix) {
+        ThreadFactory threadFactory = newThreadFactory(namePrefix);
+        try {
+            return (ExecutorService) THREAD_PER_TASK_EXECUTOR.invoke(threadFactory);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Can't create virtual thread executor", e);
+        }
+    }
+}
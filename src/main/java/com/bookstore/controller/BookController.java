@@ -1,15 +1,24 @@
 package com.bookstore.controller;
 
 import com.bookstore.dto.book.BookDto;
+import com.bookstore.dto.book.BookField;
 import com.bookstore.dto.book.BookSearchParametersDto;
 import com.bookstore.dto.book.CreateBookRequestDto;
+import com.bookstore.json.JsonFragments;
 import com.bookstore.service.BookService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,9 +27,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Book management", description = "Endpoints for managing books")
 @RequiredArgsConstructor
@@ -32,8 +44,20 @@ public class BookController {
     @GetMapping()
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     @Operation(summary = "Get all books", description = "Get list of available books")
-    public List<BookDto> findAll(Pageable pageable) {
-        return bookService.findAll(pageable);
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = BookDto.class))))
+    public JsonFragments findAll(Pageable pageable) {
+        return bookService.findAllAsJson(pageable);
+    }
+
+    @GetMapping(params = "fields")
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Get selected fields of all books",
+            description = "Get list of available books with only the requested fields")
+    public List<Map<String, Object>> findAllFields(@RequestParam String fields,
+                                                   Pageable pageable) {
+        return bookService.findAll(BookField.parse(fields, EnumSet.allOf(BookField.class)),
+                pageable);
     }
 
     @PostMapping
@@ -47,8 +71,13 @@ public class BookController {
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     @Operation(summary = "Get book by ID", description = "Get book by ID")
-    public BookDto findById(@PathVariable Long id) {
-        return bookService.findById(id);
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = BookDto.class)))
+    public JsonFragments findById(@PathVariable Long id, WebRequest request) {
+        if (EntityTags.checkNotModified(request, bookService.getVersion(id))) {
+            return null;
+        }
+        return bookService.findByIdAsJson(id);
     }
 
     @DeleteMapping("/{id}")
@@ -64,8 +93,11 @@ public class BookController {
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Update book by ID", description = "Update book by ID")
     public BookDto updateBookById(@PathVariable Long id,
-                               @RequestBody CreateBookRequestDto bookRequestDto) {
-        return bookService.updateBookById(id, bookRequestDto);
+                               @RequestBody CreateBookRequestDto bookRequestDto,
+                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                               String ifMatch) {
+        return bookService.updateBookById(id, bookRequestDto,
+                EntityTags.expectedVersion(ifMatch));
     }
 
     @GetMapping("/search")
@@ -75,4 +107,15 @@ public class BookController {
     public List<BookDto> search(BookSearchParametersDto params, Pageable pageable) {
         return bookService.search(params, pageable);
     }
+
+    @GetMapping(value = "/search", params = "fields")
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Search selected fields of books by multiple parameters",
+            description = "Search book by multiple parameters returning only the requested fields")
+    public List<Map<String, Object>> searchFields(BookSearchParametersDto params,
+                                                  @RequestParam String fields,
+                                                  Pageable pageable) {
+        return bookService.search(params, BookField.parse(fields, EnumSet.allOf(BookField.class)),
+                pageable);
+    }
 }
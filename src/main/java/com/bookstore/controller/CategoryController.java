@@ -1,6 +1,7 @@
 package com.bookstore.controller;
 
 import com.bookstore.dto.book.BookDtoWithoutCategoryIds;
+import com.bookstore.dto.book.BookField;
 import com.bookstore.dto.category.CategoryDto;
 import com.bookstore.service.BookService;
 import com.bookstore.service.CategoryService;
@@ -8,8 +9,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,9 +21,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Categories management", description = "Endpoints for managing categories")
 @RequiredArgsConstructor
@@ -48,7 +54,10 @@ public class CategoryController {
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     @Operation(summary = "Get category by id", description = "Get category by id")
-    public CategoryDto getCategoryById(@PathVariable Long id) {
+    public CategoryDto getCategoryById(@PathVariable Long id, WebRequest request) {
+        if (EntityTags.checkNotModified(request, categoryService.getVersion(id))) {
+            return null;
+        }
         return categoryService.getById(id);
     }
 
@@ -65,8 +74,10 @@ public class CategoryController {
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Update category", description = "Update category by id")
     public CategoryDto updateCategory(@PathVariable Long id,
-                                      @RequestBody CategoryDto categoryDto) {
-        return categoryService.update(id, categoryDto);
+                                      @RequestBody CategoryDto categoryDto,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH,
+                                              required = false) String ifMatch) {
+        return categoryService.update(id, categoryDto, EntityTags.expectedVersion(ifMatch));
     }
 
     @GetMapping("/{id}/books")
@@ -77,4 +88,15 @@ public class CategoryController {
     public List<BookDtoWithoutCategoryIds> getBooksByCategoryId(@PathVariable Long id) {
         return bookService.findAllByCategoryId(id);
     }
+
+    @GetMapping(value = "/{id}/books", params = "fields")
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get selected fields of all books from category",
+            description = "Get list of all books from category with only the requested fields")
+    public List<Map<String, Object>> getBookFieldsByCategoryId(@PathVariable Long id,
+                                                                @RequestParam String fields) {
+        return bookService.findAllByCategoryId(id,
+                BookField.parse(fields, BookField.WITHOUT_CATEGORY_IDS));
+    }
 }
@@ -0,0 +1,84 @@
+package com.bookstore.controller;
+
+import com.bookstore.config.BinaryFormatsConfig;
+import com.bookstore.exception.PreconditionFailedException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+final class EntityTags {
+    private static final String ANY = "*";
+    private static final Map<String, MediaType> BINARY_FORMATS = Map.of(
+            "-cbor", MediaType.APPLICATION_CBOR,
+            "-smile", BinaryFormatsConfig.APPLICATION_SMILE);
+
+    private EntityTags() {
+    }
+
+    static boolean checkNotModified(WebRequest request, Object version) {
+        if (request instanceof NativeWebRequest nativeRequest
+                && nativeRequest.getNativeResponse() instanceof HttpServletResponse response) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return request.checkNotModified(of(version, request.getHeader(HttpHeaders.ACCEPT)));
+    }
+
+    static String of(Object version, String accept) {
+        return "\"" + version + suffix(accept) + "\"";
+    }
+
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must hold a single strong ETag");
+        }
+        String version = tag.substring(1, tag.length() - 1);
+        for (String suffix : BINARY_FORMATS.keySet()) {
+            if (version.endsWith(suffix)) {
+                version = version.substring(0, version.length() - suffix.length());
+            }
+        }
+        try {
+            return Long.valueOf(version);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("Unknown ETag " + tag);
+        }
+    }
+
+    private static String suffix(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+        // Same preference as content negotiation, where JSON wins for wildcards
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            for (Map.Entry<String, MediaType> format : BINARY_FORMATS.entrySet()) {
+                if (mediaType.isCompatibleWith(format.getValue())) {
+                    return format.getKey();
+                }
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,53 @@
+package com.bookstore.controller;
+
+import com.bookstore.dto.inventory.StockReservationDto;
+import com.bookstore.dto.inventory.StockUpdateRequestDto;
+import com.bookstore.service.InventoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Inventory management", description = "Endpoints for managing stock")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/inventory")
+public class InventoryController {
+    private final InventoryService inventoryService;
+
+    @PostMapping("/reservations")
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Reserve stock for cart", description = "Hold stock for all "
+            + "items in current user's cart until checkout or expiry")
+    public List<StockReservationDto> reserveCart() {
+        return inventoryService.reserveCart();
+    }
+
+    @GetMapping("/reservations")
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Get stock reservations", description = "Get list of current "
+            + "user's stock reservations")
+    public List<StockReservationDto> findReservations() {
+        return inventoryService.findReservations();
+    }
+
+    @PatchMapping("/books/{bookId}/stock")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Add stock", description = "Increase stock of a book")
+    public void addStock(@PathVariable Long bookId,
+                         @RequestBody @Valid StockUpdateRequestDto requestDto) {
+        inventoryService.addStock(bookId, requestDto.getQuantity());
+    }
+}
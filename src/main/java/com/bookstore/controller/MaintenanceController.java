@@ -0,0 +1,27 @@
+package com.bookstore.controller;
+
+import com.bookstore.dto.maintenance.PurgeProgressDto;
+import com.bookstore.service.MaintenanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Maintenance", description = "Endpoints for background maintenance jobs")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/maintenance")
+public class MaintenanceController {
+    private final MaintenanceService maintenanceService;
+
+    @GetMapping("/purge")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Get purge progress", description = "Get progress of the purge "
+            + "of soft-deleted rows per table")
+    public PurgeProgressDto getPurgeProgress() {
+        return maintenanceService.getPurgeProgress();
+    }
+}
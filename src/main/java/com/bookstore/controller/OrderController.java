@@ -1,5 +1,7 @@
 package com.bookstore.controller;
 
+import com.bookstore.dto.order.OrderBulkStatusUpdateRequestDto;
+import com.bookstore.dto.order.OrderBulkStatusUpdateResponseDto;
 import com.bookstore.dto.order.OrderRequestDto;
 import com.bookstore.dto.order.OrderResponseDto;
 import com.bookstore.dto.order.OrderUpdateRequestDto;
@@ -46,6 +48,14 @@ public class OrderController {
         return orderService.findAllOrders(pageable);
     }
 
+    @GetMapping("/recent")
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Find recent orders", description = "Get list of orders placed "
+            + "within the configured number of recent months")
+    public List<OrderResponseDto> findRecent(Pageable pageable) {
+        return orderService.findRecentOrders(pageable);
+    }
+
     @PatchMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @Operation(summary = "Update order status", description = "Update order status")
@@ -54,6 +64,15 @@ public class OrderController {
         return orderService.updateOrderStatus(id, orderUpdateRequestDto);
     }
 
+    @PatchMapping("/status")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Update status of many orders", description = "Move orders selected "
+            + "by ids or by current status to a new status in one update")
+    public OrderBulkStatusUpdateResponseDto updateOrderStatuses(
+            @RequestBody @Valid OrderBulkStatusUpdateRequestDto requestDto) {
+        return orderService.updateOrderStatuses(requestDto);
+    }
+
     @GetMapping("/{orderId}/items")
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     @Operation(summary = "Find all items in order", description = "Get list of all "
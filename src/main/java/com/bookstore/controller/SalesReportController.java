@@ -0,0 +1,52 @@
+package com.bookstore.controller;
+
+import com.bookstore.dto.sales.BookSalesDto;
+import com.bookstore.dto.sales.CategorySalesDto;
+import com.bookstore.dto.sales.DailySalesDto;
+import com.bookstore.service.SalesReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Sales reports", description = "Endpoints for reading sales aggregates")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/sales")
+public class SalesReportController {
+    private final SalesReportService salesReportService;
+
+    @GetMapping("/books")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Get sales per book", description = "Get quantity sold and revenue "
+            + "per book")
+    public List<BookSalesDto> findBookSales(Pageable pageable) {
+        return salesReportService.findBookSales(pageable);
+    }
+
+    @GetMapping("/categories")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Get sales per category", description = "Get quantity sold and "
+            + "revenue per category")
+    public List<CategorySalesDto> findCategorySales(Pageable pageable) {
+        return salesReportService.findCategorySales(pageable);
+    }
+
+    @GetMapping("/daily")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Get sales per day", description = "Get orders, items sold, revenue "
+            + "and status transitions per day in date range")
+    public List<DailySalesDto> findDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return salesReportService.findDailySales(from, to);
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Shopping Cart Management", description = "Endpoints for managing carts")
 @RestController
@@ -40,7 +41,10 @@ public class ShoppingCartController {
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     @Operation(summary = "Get all items in cart", description = "Get list of all items "
             + "in user's cart")
-    public ShoppingCartDto findAllByUser() {
+    public ShoppingCartDto findAllByUser(WebRequest request) {
+        if (EntityTags.checkNotModified(request, shoppingCartService.getVersionTag())) {
+            return null;
+        }
         return shoppingCartService.findAllByUser();
     }
 
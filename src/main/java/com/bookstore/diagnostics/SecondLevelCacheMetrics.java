@@ -0,0 +1,41 @@
+package com.bookstore.diagnostics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .filter(region -> !RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME
+                        .equals(region))
+                .forEach(region -> Gauge.builder("bookstore.hibernate.cache.hit-ratio",
+                                statistics,
+                                stats -> hitRatio(stats.getCacheRegionStatistics(region)))
+                        .description("Share of second-level cache lookups served from the cache")
+                        .tag("region", region)
+                        .register(registry));
+    }
+
+    static double hitRatio(CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long lookups = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) regionStatistics.getHitCount() / lookups;
+    }
+}
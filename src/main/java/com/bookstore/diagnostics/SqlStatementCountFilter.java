@@ -0,0 +1,104 @@
+package com.bookstore.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "sql.query-counter.enabled", havingValue = "true")
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Sql-Query-Count";
+
+    private final int repeatThreshold;
+
+    public SqlStatementCountFilter(
+            @Value("${sql.query-counter.repeat-threshold:3}") int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        CountHeaderResponseWrapper responseWrapper = new CountHeaderResponseWrapper(response);
+        SqlStatementRecorder.start();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            responseWrapper.writeCountHeader();
+        } finally {
+            SqlStatementStats stats = SqlStatementRecorder.stop();
+            report(request.getMethod() + " " + request.getRequestURI(), stats);
+        }
+    }
+
+    private void report(String endpoint, SqlStatementStats stats) {
+        log.info("{} executed {} SQL statements", endpoint, stats.getTotal());
+        stats.getRepeatedShapes(repeatThreshold).forEach((shape, count) ->
+                log.warn("Possible N+1 on {}: {} executions of [{}]", endpoint, count, shape));
+    }
+
+    private static final class CountHeaderResponseWrapper extends HttpServletResponseWrapper {
+        private boolean headerWritten;
+
+        private CountHeaderResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeCountHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeCountHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeCountHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeCountHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeCountHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeCountHeader();
+            super.sendRedirect(location);
+        }
+
+        private void writeCountHeader() {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(HEADER, String.valueOf(SqlStatementRecorder.currentTotal()));
+            }
+            headerWritten = true;
+        }
+    }
+}
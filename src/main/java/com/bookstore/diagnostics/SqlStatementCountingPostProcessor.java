@@ -0,0 +1,26 @@
+package com.bookstore.diagnostics;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "sql.query-counter.enabled", havingValue = "true")
+public class SqlStatementCountingPostProcessor implements BeanPostProcessor {
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource
+                || bean instanceof AbstractRoutingDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .afterQuery((executionInfo, queryInfos) -> queryInfos
+                        .forEach(queryInfo -> SqlStatementRecorder.record(queryInfo.getQuery())))
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.bookstore.diagnostics;
+
+public final class SqlStatementRecorder {
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static void start() {
+        CURRENT.set(new SqlStatementStats());
+    }
+
+    public static SqlStatementStats stop() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats == null ? new SqlStatementStats() : stats;
+    }
+
+    public static int currentTotal() {
+        SqlStatementStats stats = CURRENT.get();
+        return stats == null ? 0 : stats.getTotal();
+    }
+
+    public static void record(String sql) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(sql);
+        }
+    }
+}
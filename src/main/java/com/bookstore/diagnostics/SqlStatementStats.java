@@ -0,0 +1,44 @@
+package com.bookstore.diagnostics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class SqlStatementStats {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final Pattern IN_LIST =
+            Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+    private int total;
+
+    public void record(String sql) {
+        total++;
+        shapes.merge(shapeOf(sql), 1, Integer::sum);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public Map<String, Integer> getShapes() {
+        return shapes;
+    }
+
+    public Map<String, Integer> getRepeatedShapes(int threshold) {
+        return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
+                        Integer::sum, LinkedHashMap::new));
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,96 @@
+package com.bookstore.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "threads.virtual.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String UNKNOWN_SITE = "unknown";
+
+    private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private final int stackDepth;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${threads.virtual.pinning-monitor.threshold:PT0.02S}") Duration threshold,
+            @Value("${threads.virtual.pinning-monitor.stack-depth:12}") int stackDepth) {
+        this.pinnedTimer = Timer.builder("bookstore.virtual-threads.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .register(meterRegistry);
+        this.threshold = threshold;
+        this.stackDepth = stackDepth;
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Reporting virtual thread pinning longer than {}", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        recordingStream.close();
+    }
+
+    public Map<String, Long> getPinnedSites() {
+        return pinnedSites.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<String> frames = event.getStackTrace() == null ? List.of()
+                : event.getStackTrace().getFrames().stream()
+                        .limit(stackDepth)
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .toList();
+        recordPinned(event.getDuration(), frames);
+    }
+
+    void recordPinned(Duration duration, List<String> frames) {
+        pinnedTimer.record(duration);
+        String site = pinnedSite(frames);
+        LongAdder count = pinnedSites.computeIfAbsent(site, key -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            log.warn("Virtual thread pinned for {} ms at {}\n\tat {}", duration.toMillis(), site,
+                    String.join("\n\tat ", frames));
+        }
+    }
+
+    static String pinnedSite(List<String> frames) {
+        return frames.stream()
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.")
+                        && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse(frames.isEmpty() ? UNKNOWN_SITE : frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
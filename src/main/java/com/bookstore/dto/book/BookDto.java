@@ -15,5 +15,6 @@ public class BookDto {
     private BigDecimal price;
     private String description;
     private String coverImage;
+    private int stock;
     private Set<Long> categoryIds;
 }
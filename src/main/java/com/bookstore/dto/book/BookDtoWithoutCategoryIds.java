@@ -14,4 +14,5 @@ public class BookDtoWithoutCategoryIds {
     private BigDecimal price;
     private String description;
     private String coverImage;
+    private int stock;
 }
@@ -0,0 +1,51 @@
+package com.bookstore.dto.book;
+
+import com.bookstore.exception.UnknownFieldException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BookField {
+    ID("id"),
+    TITLE("title"),
+    AUTHOR("author"),
+    ISBN("isbn"),
+    PRICE("price"),
+    DESCRIPTION("description"),
+    COVER_IMAGE("coverImage"),
+    STOCK("stock"),
+    CATEGORY_IDS("categoryIds");
+
+    public static final Set<BookField> WITHOUT_CATEGORY_IDS =
+            EnumSet.complementOf(EnumSet.of(CATEGORY_IDS));
+
+    private final String property;
+
+    public boolean isColumn() {
+        return this != CATEGORY_IDS;
+    }
+
+    public static Set<BookField> parse(String fields, Set<BookField> allowed) {
+        Set<BookField> parsed = EnumSet.noneOf(BookField.class);
+        for (String name : fields.split(",")) {
+            String property = name.trim();
+            if (property.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(allowed::contains)
+                    .filter(field -> field.property.equals(property))
+                    .findFirst()
+                    .orElseThrow(() -> new UnknownFieldException("Unknown book field: "
+                            + property)));
+        }
+        if (parsed.isEmpty()) {
+            throw new UnknownFieldException("At least one book field is required");
+        }
+        return parsed;
+    }
+}
@@ -26,6 +26,9 @@ public class CreateBookRequestDto {
     private String description;
     private String coverImage;
 
+    @Min(0)
+    private int stock;
+
     @NotNull
     private Set<Long> categoryIds;
 }
@@ -0,0 +1,13 @@
+package com.bookstore.dto.inventory;
+
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class StockReservationDto {
+    private Long bookId;
+    private int quantity;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,12 @@
+package com.bookstore.dto.inventory;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class StockUpdateRequestDto {
+    @Min(1)
+    private int quantity;
+}
@@ -0,0 +1,15 @@
+package com.bookstore.dto.maintenance;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class PurgeProgressDto {
+    private boolean running;
+    private LocalDateTime lastRunStartedAt;
+    private LocalDateTime lastRunFinishedAt;
+    private List<PurgeTableProgressDto> tables;
+}
@@ -0,0 +1,13 @@
+package com.bookstore.dto.maintenance;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class PurgeTableProgressDto {
+    private String table;
+    private long purged;
+    private long batches;
+    private long lastPurgedId;
+}
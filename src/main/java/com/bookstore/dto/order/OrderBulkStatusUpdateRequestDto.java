@@ -0,0 +1,53 @@
+package com.bookstore.dto.order;
+
+import com.bookstore.model.Status;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class OrderBulkStatusUpdateRequestDto {
+    @Size(max = 10000)
+    private Set<Long> ids;
+
+    private String currentStatus;
+
+    private LocalDateTime placedBefore;
+
+    @NotBlank
+    private String status;
+
+    @JsonIgnore
+    @AssertTrue(message = "either ids or currentStatus must be provided")
+    public boolean isSelectionPresent() {
+        return (ids != null && !ids.isEmpty()) || currentStatus != null;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "status must be one of DELIVERED, PENDING, COMPLETED")
+    public boolean isKnownStatus() {
+        return status == null || Status.fromName(status).isPresent();
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "currentStatus must be a status that can change to status")
+    public boolean isAllowedTransition() {
+        if ((ids != null && !ids.isEmpty()) || currentStatus == null) {
+            return true;
+        }
+        Optional<Status> current = Status.fromName(currentStatus);
+        Optional<Status> target = Status.fromName(status);
+        if (current.isEmpty()) {
+            return false;
+        }
+        return target.isEmpty() || target.get().getAllowedPreviousStatuses()
+                .contains(current.get());
+    }
+}
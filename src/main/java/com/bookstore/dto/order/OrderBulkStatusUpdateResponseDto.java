@@ -0,0 +1,12 @@
+package com.bookstore.dto.order;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class OrderBulkStatusUpdateResponseDto {
+    private String status;
+    private int updated;
+    private int skipped;
+}
@@ -0,0 +1,13 @@
+package com.bookstore.dto.sales;
+
+import java.math.BigDecimal;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class BookSalesDto {
+    private Long bookId;
+    private long quantitySold;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,17 @@
+package com.bookstore.dto.sales;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class DailySalesDto {
+    private LocalDate salesDate;
+    private long ordersCount;
+    private long itemsSold;
+    private BigDecimal revenue;
+    private long deliveredCount;
+    private long completedCount;
+}
@@ -0,0 +1,7 @@
+package com.bookstore.exception;
+
+public class CacheLoadTimeoutException extends RuntimeException {
+    public CacheLoadTimeoutException(String message) {
+        super(message);
+    }
+}
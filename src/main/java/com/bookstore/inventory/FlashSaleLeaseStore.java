@@ -0,0 +1,102 @@
+package com.bookstore.inventory;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FlashSaleLeaseStore {
+    private static final String ADD_LEASE_SQL = "UPDATE flash_sale_leases "
+            + "SET quantity = quantity + :quantity, heartbeat_at = CURRENT_TIMESTAMP "
+            + "WHERE owner = :owner AND book_id = :bookId";
+    private static final String INSERT_LEASE_SQL = "INSERT INTO flash_sale_leases "
+            + "(owner, book_id, quantity, heartbeat_at) "
+            + "VALUES (:owner, :bookId, :quantity, CURRENT_TIMESTAMP)";
+    private static final String HEARTBEAT_SQL = "UPDATE flash_sale_leases "
+            + "SET heartbeat_at = CURRENT_TIMESTAMP WHERE owner = :owner";
+    private static final String INSERT_TAKE_SQL = "INSERT INTO flash_sale_takes "
+            + "(owner, book_id, quantity) VALUES (:owner, :bookId, :quantity)";
+    private static final String SELECT_TAKES_SQL = "SELECT id, book_id, quantity "
+            + "FROM flash_sale_takes WHERE owner = :owner ORDER BY id LIMIT :limit";
+    private static final String FOLD_TAKES_SQL = "UPDATE flash_sale_leases "
+            + "SET quantity = quantity - :quantity WHERE owner = :owner AND book_id = :bookId";
+    private static final String DELETE_TAKES_BY_ID_SQL = "DELETE FROM flash_sale_takes "
+            + "WHERE id IN (:ids)";
+    private static final String NOW_SQL = "SELECT CURRENT_TIMESTAMP";
+    private static final String SELECT_STALE_SQL = "SELECT l.owner, l.book_id, "
+            + "l.quantity - COALESCE((SELECT SUM(t.quantity) FROM flash_sale_takes t "
+            + "WHERE t.owner = l.owner AND t.book_id = l.book_id), 0) AS remaining "
+            + "FROM flash_sale_leases l WHERE l.heartbeat_at < :staleBefore "
+            + "AND l.owner <> :owner ORDER BY l.owner, l.book_id "
+            + "LIMIT :limit FOR UPDATE SKIP LOCKED";
+    private static final String DELETE_TAKES_SQL = "DELETE FROM flash_sale_takes "
+            + "WHERE owner = :owner AND book_id = :bookId";
+    private static final String DELETE_LEASE_SQL = "DELETE FROM flash_sale_leases "
+            + "WHERE owner = :owner AND book_id = :bookId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void addLease(String owner, Long bookId, long quantity) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("owner", owner)
+                .addValue("bookId", bookId)
+                .addValue("quantity", quantity);
+        if (jdbcTemplate.update(ADD_LEASE_SQL, params) == 0) {
+            jdbcTemplate.update(INSERT_LEASE_SQL, params);
+        }
+    }
+
+    public void heartbeat(String owner) {
+        jdbcTemplate.update(HEARTBEAT_SQL, Map.of("owner", owner));
+    }
+
+    public void recordTake(String owner, Long bookId, int quantity) {
+        jdbcTemplate.update(INSERT_TAKE_SQL, Map.of("owner", owner, "bookId", bookId,
+                "quantity", quantity));
+    }
+
+    public int foldTakes(String owner, int limit) {
+        List<Long> ids = new ArrayList<>();
+        Map<Long, Long> taken = new HashMap<>();
+        jdbcTemplate.query(SELECT_TAKES_SQL, Map.of("owner", owner, "limit", limit),
+                (RowCallbackHandler) resultSet -> {
+                    ids.add(resultSet.getLong("id"));
+                    taken.merge(resultSet.getLong("book_id"), resultSet.getLong("quantity"),
+                            Long::sum);
+                });
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        taken.forEach((bookId, quantity) -> jdbcTemplate.update(FOLD_TAKES_SQL,
+                Map.of("owner", owner, "bookId", bookId, "quantity", quantity)));
+        jdbcTemplate.update(DELETE_TAKES_BY_ID_SQL, Map.of("ids", ids));
+        return ids.size();
+    }
+
+    public List<StaleLease> lockStaleLeases(String owner, Duration timeout, int limit) {
+        Timestamp now = jdbcTemplate.getJdbcTemplate().queryForObject(NOW_SQL, Timestamp.class);
+        Timestamp staleBefore = Timestamp.from(now.toInstant().minus(timeout));
+        return jdbcTemplate.query(SELECT_STALE_SQL, Map.of("staleBefore", staleBefore,
+                        "owner", owner, "limit", limit),
+                (resultSet, rowNum) -> new StaleLease(resultSet.getString("owner"),
+                        resultSet.getLong("book_id"), resultSet.getLong("remaining")));
+    }
+
+    public void delete(String owner, Long bookId) {
+        Map<String, Object> params = Map.of("owner", owner, "bookId", bookId);
+        jdbcTemplate.update(DELETE_TAKES_SQL, params);
+        jdbcTemplate.update(DELETE_LEASE_SQL, params);
+    }
+
+    public record StaleLease(String owner, Long bookId, long remaining) {
+    }
+}
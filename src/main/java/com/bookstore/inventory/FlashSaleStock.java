@@ -0,0 +1,207 @@
+package com.bookstore.inventory;
+
+import com.bookstore.inventory.FlashSaleLeaseStore.StaleLease;
+import com.bookstore.repository.book.BookRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class FlashSaleStock {
+    private static final int LEASE_ATTEMPTS = 3;
+    private static final int RECLAIM_BATCH_SIZE = 100;
+    private static final int FOLD_BATCH_SIZE = 1000;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final BookRepository bookRepository;
+    private final FlashSaleLeaseStore leaseStore;
+    private final TransactionTemplate leaseTransaction;
+    private final Map<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    private final Map<Long, ReentrantLock> leaseLocks = new ConcurrentHashMap<>();
+    private final int chunkSize;
+    private final int lowWatermark;
+    private final Duration leaseTimeout;
+
+    public FlashSaleStock(
+            BookRepository bookRepository,
+            FlashSaleLeaseStore leaseStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${inventory.flash-sale.enabled:false}") boolean enabled,
+            @Value("${inventory.flash-sale.book-ids:}") Set<Long> bookIds,
+            @Value("${inventory.flash-sale.stripes:16}") int stripes,
+            @Value("${inventory.flash-sale.chunk-size:100}") int chunkSize,
+            @Value("${inventory.flash-sale.low-watermark:20}") int lowWatermark,
+            @Value("${inventory.flash-sale.lease-timeout:PT5M}") Duration leaseTimeout) {
+        this.bookRepository = bookRepository;
+        this.leaseStore = leaseStore;
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.lowWatermark = lowWatermark;
+        this.leaseTimeout = leaseTimeout;
+        if (enabled) {
+            bookIds.forEach(bookId -> {
+                counters.put(bookId, new StripedStockCounter(stripes));
+                leaseLocks.put(bookId, new ReentrantLock());
+            });
+        }
+    }
+
+    public boolean covers(Long bookId) {
+        return counters.containsKey(bookId);
+    }
+
+    public boolean tryTake(Long bookId, int quantity) {
+        StripedStockCounter counter = counters.get(bookId);
+        if (!counter.tryAcquire(quantity) && !leaseAndAcquire(bookId, counter, quantity)) {
+            return bookRepository.decreaseStock(bookId, quantity) == 1;
+        }
+        try {
+            leaseStore.recordTake(owner, bookId, quantity);
+        } catch (RuntimeException e) {
+            counter.release(quantity);
+            throw e;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            if (status != STATUS_COMMITTED) {
+                                counter.release(quantity);
+                            }
+                        }
+                    });
+        }
+        return true;
+    }
+
+    public Set<Long> getBookIds() {
+        return counters.keySet();
+    }
+
+    public long available(Long bookId) {
+        return counters.get(bookId).available();
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.flash-sale.reconcile-interval:1000}")
+    public void reconcile() {
+        counters.forEach((bookId, counter) -> {
+            ReentrantLock lock = leaseLocks.get(bookId);
+            if (counter.available() >= lowWatermark || !lock.tryLock()) {
+                return;
+            }
+            try {
+                lease(bookId, counter, chunkSize);
+            } catch (DataAccessException e) {
+                log.warn("Can't lease flash sale stock for book {}", bookId, e);
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.flash-sale.lease-maintenance-interval:60000}")
+    public void maintainLeases() {
+        try {
+            if (!counters.isEmpty()) {
+                leaseTransaction.executeWithoutResult(status -> leaseStore.heartbeat(owner));
+                int folded;
+                do {
+                    folded = leaseTransaction.execute(status -> leaseStore.foldTakes(owner,
+                            FOLD_BATCH_SIZE));
+                } while (folded == FOLD_BATCH_SIZE);
+            }
+            int reclaimed;
+            do {
+                reclaimed = reclaimStaleLeases();
+            } while (reclaimed == RECLAIM_BATCH_SIZE);
+        } catch (DataAccessException e) {
+            log.warn("Can't maintain flash sale leases, will retry", e);
+        }
+    }
+
+    @PreDestroy
+    public void returnLeases() {
+        counters.forEach((bookId, counter) -> {
+            long remaining = counter.drain();
+            if (remaining > 0) {
+                leaseTransaction.executeWithoutResult(status -> {
+                    bookRepository.increaseStock(bookId, (int) remaining);
+                    leaseStore.addLease(owner, bookId, -remaining);
+                });
+                log.info("Returned {} leased units of book {} to stock", remaining, bookId);
+            }
+        });
+    }
+
+    private boolean leaseAndAcquire(Long bookId, StripedStockCounter counter, int quantity) {
+        ReentrantLock lock = leaseLocks.get(bookId);
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (counter.tryAcquire(quantity)) {
+                return true;
+            }
+            lease(bookId, counter, Math.max(chunkSize, quantity));
+            return counter.tryAcquire(quantity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void lease(Long bookId, StripedStockCounter counter, int wanted) {
+        Integer leased = leaseTransaction.execute(status -> {
+            int amount = wanted;
+            for (int i = 0; i < LEASE_ATTEMPTS && amount > 0; i++) {
+                if (bookRepository.decreaseStock(bookId, amount) == 1) {
+                    leaseStore.addLease(owner, bookId, amount);
+                    return amount;
+                }
+                amount = Math.min(wanted, bookRepository.findStockById(bookId).orElse(0));
+            }
+            return 0;
+        });
+        if (leased != null && leased > 0) {
+            counter.add(leased);
+            log.debug("Leased {} units of book {} for flash sale", leased, bookId);
+        }
+    }
+
+    private int reclaimStaleLeases() {
+        List<StaleLease> stale = leaseTransaction.execute(status -> {
+            List<StaleLease> leases = leaseStore.lockStaleLeases(owner, leaseTimeout,
+                    RECLAIM_BATCH_SIZE);
+            for (StaleLease lease : leases) {
+                if (lease.remaining() > 0) {
+                    bookRepository.increaseStock(lease.bookId(), (int) lease.remaining());
+                }
+                leaseStore.delete(lease.owner(), lease.bookId());
+            }
+            return leases;
+        });
+        stale.stream()
+                .filter(lease -> lease.remaining() > 0)
+                .forEach(lease -> log.info("Reclaimed {} units of book {} leased by {}",
+                        lease.remaining(), lease.bookId(), lease.owner()));
+        return stale.size();
+    }
+}
@@ -0,0 +1,23 @@
+package com.bookstore.inventory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FlashSaleStockMetrics implements MeterBinder {
+    private final FlashSaleStock flashSaleStock;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        flashSaleStock.getBookIds().forEach(bookId ->
+                Gauge.builder("bookstore.flash-sale.leased.stock", flashSaleStock,
+                                stock -> stock.available(bookId))
+                        .description("Leased flash sale stock not sold yet")
+                        .tag("book", String.valueOf(bookId))
+                        .register(registry));
+    }
+}
@@ -0,0 +1,34 @@
+package com.bookstore.inventory;
+
+import com.bookstore.service.InventoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class StockReservationReaper {
+    private final InventoryService inventoryService;
+    private final int batchSize;
+
+    public StockReservationReaper(
+            InventoryService inventoryService,
+            @Value("${inventory.reservation.reaper-batch-size:100}") int batchSize) {
+        this.inventoryService = inventoryService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.reaper-interval:30000}")
+    public void releaseExpired() {
+        try {
+            int released;
+            do {
+                released = inventoryService.releaseExpiredReservations(batchSize);
+            } while (released == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Can't release expired stock reservations, will retry", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.bookstore.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class StripedStockCounter {
+    private static final int PADDING = 16;
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+
+    public StripedStockCounter(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripes must be positive, was " + stripes);
+        }
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+    }
+
+    public boolean tryAcquire(int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            int index = cellIndex(start + i);
+            long value = cells.get(index);
+            while (value >= quantity) {
+                if (cells.compareAndSet(index, value, value - quantity)) {
+                    return true;
+                }
+                value = cells.get(index);
+            }
+        }
+        return gather(start, quantity);
+    }
+
+    public void release(int quantity) {
+        cells.getAndAdd(cellIndex(ThreadLocalRandom.current().nextInt(stripes)), quantity);
+    }
+
+    public void add(long quantity) {
+        long share = quantity / stripes;
+        long remainder = quantity % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.getAndAdd(cellIndex(i), share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    public long drain() {
+        long drained = 0;
+        for (int i = 0; i < stripes; i++) {
+            drained += cells.getAndSet(cellIndex(i), 0);
+        }
+        return drained;
+    }
+
+    public long available() {
+        long available = 0;
+        for (int i = 0; i < stripes; i++) {
+            available += cells.get(cellIndex(i));
+        }
+        return available;
+    }
+
+    private boolean gather(int start, int quantity) {
+        long taken = 0;
+        for (int i = 0; i < stripes && taken < quantity; i++) {
+            int index = cellIndex(start + i);
+            long value = cells.get(index);
+            while (value > 0) {
+                long take = Math.min(value, quantity - taken);
+                if (cells.compareAndSet(index, value, value - take)) {
+                    taken += take;
+                    break;
+                }
+                value = cells.get(index);
+            }
+        }
+        if (taken == quantity) {
+            return true;
+        }
+        if (taken > 0) {
+            cells.getAndAdd(cellIndex(start), taken);
+        }
+        return false;
+    }
+
+    private int cellIndex(int stripe) {
+        return (stripe % stripes) * PADDING;
+    }
+}
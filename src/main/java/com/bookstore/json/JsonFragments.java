@@ -0,0 +1,52 @@
+package com.bookstore.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+public record JsonFragments(List<ByteBuffer> fragments, boolean array) {
+    private static final byte[] OPEN = {'['};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] CLOSE = {']'};
+
+    public static JsonFragments single(ByteBuffer fragment) {
+        return new JsonFragments(List.of(fragment), false);
+    }
+
+    public static JsonFragments array(List<ByteBuffer> fragments) {
+        return new JsonFragments(List.copyOf(fragments), true);
+    }
+
+    public long contentLength() {
+        long length = 0;
+        for (ByteBuffer fragment : fragments) {
+            length += fragment.remaining();
+        }
+        if (array) {
+            length += 2 + Math.max(0, fragments.size() - 1);
+        }
+        return length;
+    }
+
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        if (array) {
+            write(channel, ByteBuffer.wrap(OPEN));
+        }
+        for (int i = 0; i < fragments.size(); i++) {
+            if (array && i > 0) {
+                write(channel, ByteBuffer.wrap(SEPARATOR));
+            }
+            write(channel, fragments.get(i).duplicate());
+        }
+        if (array) {
+            write(channel, ByteBuffer.wrap(CLOSE));
+        }
+    }
+
+    private static void write(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
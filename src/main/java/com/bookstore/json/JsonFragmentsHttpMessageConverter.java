@@ -0,0 +1,51 @@
+package com.bookstore.json;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JsonFragmentsHttpMessageConverter
+        extends AbstractHttpMessageConverter<JsonFragments> {
+    public JsonFragmentsHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonFragments.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonFragments readInternal(Class<? extends JsonFragments> clazz,
+                                         HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JSON fragments are write-only",
+                inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(JsonFragments fragments, MediaType contentType) {
+        return fragments.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(JsonFragments fragments, HttpOutputMessage outputMessage)
+            throws IOException {
+        WritableByteChannel channel = Channels.newChannel(outputMessage.getBody());
+        fragments.writeTo(channel);
+    }
+}
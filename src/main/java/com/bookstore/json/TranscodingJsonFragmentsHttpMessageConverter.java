@@ -0,0 +1,73 @@
+package com.bookstore.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+public class TranscodingJsonFragmentsHttpMessageConverter
+        extends AbstractHttpMessageConverter<JsonFragments> {
+    private final JsonFactory source;
+    private final JsonFactory target;
+
+    public TranscodingJsonFragmentsHttpMessageConverter(JsonFactory source, JsonFactory target,
+                                                        MediaType mediaType) {
+        super(mediaType);
+        this.source = source;
+        this.target = target;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonFragments.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonFragments readInternal(Class<? extends JsonFragments> clazz,
+                                         HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JSON fragments are write-only",
+                inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(JsonFragments fragments, HttpOutputMessage outputMessage)
+            throws IOException {
+        try (JsonGenerator generator = target.createGenerator(outputMessage.getBody())) {
+            if (fragments.array()) {
+                generator.writeStartArray();
+            }
+            for (ByteBuffer fragment : fragments.fragments()) {
+                copy(fragment, generator);
+            }
+            if (fragments.array()) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private void copy(ByteBuffer fragment, JsonGenerator generator) throws IOException {
+        try (JsonParser parser = source.createParser(
+                new ByteBufferBackedInputStream(fragment.duplicate()))) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                    generator.writeNumber(parser.getDecimalValue());
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+    }
+}
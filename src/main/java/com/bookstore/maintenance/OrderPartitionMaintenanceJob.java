@@ -0,0 +1,127 @@
+package com.bookstore.maintenance;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orders.partitioning.enabled", havingValue = "true")
+public class OrderPartitionMaintenanceJob {
+    static final String ORDERS = "orders";
+    static final String ORDER_ITEMS = "order_items";
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("'p'yyyy_MM");
+    private static final String PARTITIONS_QUERY = "SELECT c.relname, "
+            + "pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = ?::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final String archiveSchema;
+
+    public OrderPartitionMaintenanceJob(
+            JdbcTemplate jdbcTemplate,
+            @Value("${orders.partitioning.premake-months:3}") int premakeMonths,
+            @Value("${orders.partitioning.retention-months:12}") int retentionMonths,
+            @Value("${orders.partitioning.archive-schema:orders_archive}") String archiveSchema) {
+        if (!IDENTIFIER.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("Invalid archive schema name " + archiveSchema);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        run();
+    }
+
+    @Scheduled(cron = "${orders.partitioning.cron:0 0 3 * * *}")
+    public void run() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        try {
+            createPartitions(currentMonth);
+            archivePartitions(currentMonth.minusMonths(retentionMonths));
+        } catch (DataAccessException e) {
+            log.warn("Can't maintain order partitions, will retry on next run", e);
+        }
+    }
+
+    void createPartitions(LocalDate currentMonth) {
+        for (int i = 0; i <= premakeMonths; i++) {
+            LocalDate from = currentMonth.plusMonths(i);
+            createPartition(ORDERS, from);
+            createPartition(ORDER_ITEMS, from);
+        }
+    }
+
+    void archivePartitions(LocalDate cutoff) {
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        for (String partition : findPartitionsEndingBefore(ORDER_ITEMS, cutoff)) {
+            detach(ORDER_ITEMS, partition);
+            jdbcTemplate.execute("ALTER TABLE " + partition
+                    + " DROP CONSTRAINT IF EXISTS fk_order_items_orders");
+            moveToArchive(partition);
+        }
+        for (String partition : findPartitionsEndingBefore(ORDERS, cutoff)) {
+            detach(ORDERS, partition);
+            moveToArchive(partition);
+        }
+    }
+
+    static Optional<LocalDate> parseUpperBound(String boundExpression) {
+        Matcher matcher = UPPER_BOUND.matcher(boundExpression);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.parse(matcher.group(1),
+                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")).toLocalDate());
+    }
+
+    private void createPartition(String table, LocalDate from) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + "_" + from.format(SUFFIX)
+                + " PARTITION OF " + table
+                + " FOR VALUES FROM ('" + from + "') TO ('" + from.plusMonths(1) + "')");
+    }
+
+    private List<String> findPartitionsEndingBefore(String table, LocalDate cutoff) {
+        List<String[]> partitions = jdbcTemplate.query(PARTITIONS_QUERY,
+                (rs, rowNum) -> new String[] {rs.getString(1), rs.getString(2)}, table);
+        return partitions.stream()
+                .filter(partition -> parseUpperBound(partition[1])
+                        .filter(upperBound -> !upperBound.isAfter(cutoff))
+                        .isPresent())
+                .map(partition -> partition[0])
+                .sorted()
+                .toList();
+    }
+
+    private void detach(String table, String partition) {
+        jdbcTemplate.execute("ALTER TABLE " + table
+                + " DETACH PARTITION " + partition + " CONCURRENTLY");
+        log.info("Detached partition {} from {}", partition, table);
+    }
+
+    private void moveToArchive(String partition) {
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+        log.info("Moved partition {} to schema {}", partition, archiveSchema);
+    }
+}
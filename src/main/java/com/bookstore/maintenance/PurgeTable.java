@@ -0,0 +1,47 @@
+package com.bookstore.maintenance;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PurgeTable {
+    CART_ITEMS("cart_items", null, List.of()),
+    ORDER_ITEMS("order_items", null, List.of()),
+    ORDERS("orders",
+            "NOT EXISTS (SELECT 1 FROM order_items c WHERE c.order_id = t.id)",
+            List.of()),
+    SHOPPING_CARTS("shopping_carts",
+            "NOT EXISTS (SELECT 1 FROM cart_items c WHERE c.cart_id = t.id)",
+            List.of()),
+    BOOKS("books",
+            "NOT EXISTS (SELECT 1 FROM cart_items c WHERE c.book_id = t.id) "
+                    + "AND NOT EXISTS (SELECT 1 FROM order_items c WHERE c.book_id = t.id)",
+            List.of("DELETE FROM books_categories WHERE book_id IN (:ids)")),
+    CATEGORIES("categories", null,
+            List.of("DELETE FROM books_categories WHERE category_id IN (:ids)")),
+    USERS("users",
+            "NOT EXISTS (SELECT 1 FROM orders c WHERE c.user_id = t.id) "
+                    + "AND NOT EXISTS (SELECT 1 FROM shopping_carts c WHERE c.id = t.id)",
+            List.of("DELETE FROM users_roles WHERE user_id IN (:ids)"));
+
+    private final String tableName;
+    private final String guard;
+    private final List<String> cleanupStatements;
+
+    String selectBatchSql() {
+        return "SELECT t.id FROM " + tableName + " t WHERE t.is_deleted = true "
+                + "AND t.deleted_at < :cutoff AND t.id > :afterId "
+                + (guard == null ? "" : "AND " + guard + " ")
+                + "ORDER BY t.id LIMIT :limit";
+    }
+
+    String deleteBatchSql() {
+        return "DELETE FROM " + tableName + " WHERE id IN (:ids) AND is_deleted = true";
+    }
+
+    String selectRowsSql() {
+        return "SELECT * FROM " + tableName + " WHERE id IN (:ids)";
+    }
+}
@@ -0,0 +1,115 @@
+package com.bookstore.maintenance;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "purge.soft-deleted.enabled", havingValue = "true")
+public class SoftDeletePurgeJob {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SoftDeletePurgeWriter purgeWriter;
+    private final SoftDeletePurgeProgress progress;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("soft-delete-purge-"));
+    private final int retentionDays;
+    private final int batchSize;
+    private final long batchPause;
+    private final boolean archive;
+
+    public SoftDeletePurgeJob(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            SoftDeletePurgeWriter purgeWriter,
+            SoftDeletePurgeProgress progress,
+            @Value("${purge.soft-deleted.retention-days:30}") int retentionDays,
+            @Value("${purge.soft-deleted.batch-size:500}") int batchSize,
+            @Value("${purge.soft-deleted.batch-pause:200}") long batchPause,
+            @Value("${purge.soft-deleted.archive:false}") boolean archive) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.purgeWriter = purgeWriter;
+        this.progress = progress;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.archive = archive;
+    }
+
+    @Scheduled(cron = "${purge.soft-deleted.cron:0 30 2 * * *}")
+    public void start() {
+        if (!running.get()) {
+            executor.execute(this::run);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        progress.runStarted();
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+            for (PurgeTable table : PurgeTable.values()) {
+                if (!purge(table, cutoff)) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Can't purge soft-deleted rows, will retry on next run", e);
+        } finally {
+            progress.runFinished();
+            running.set(false);
+        }
+    }
+
+    private boolean purge(PurgeTable table, LocalDateTime cutoff) {
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(table.selectBatchSql(),
+                    Map.of("cutoff", cutoff, "afterId", afterId, "limit", batchSize),
+                    Long.class);
+            if (ids.isEmpty()) {
+                return true;
+            }
+            afterId = ids.get(ids.size() - 1);
+            int purged = purgeWriter.purge(table, ids, archive);
+            progress.batchPurged(table, purged, afterId);
+            log.debug("Purged {} rows from {} up to id {}", purged, table.getTableName(),
+                    afterId);
+            if (ids.size() < batchSize) {
+                return true;
+            }
+            if (!pause()) {
+                return false;
+            }
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bookstore.maintenance;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SoftDeletePurgeMetrics implements MeterBinder {
+    private final SoftDeletePurgeProgress progress;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bookstore.purge.running", progress, p -> p.isRunning() ? 1 : 0)
+                .description("Whether the soft-deleted rows purge is running")
+                .register(registry);
+        progress.getTables().forEach((table, tableProgress) -> {
+            FunctionCounter.builder("bookstore.purge.rows", tableProgress,
+                            SoftDeletePurgeProgress.TableProgress::getPurged)
+                    .description("Soft-deleted rows purged")
+                    .tag("table", table.getTableName())
+                    .register(registry);
+            FunctionCounter.builder("bookstore.purge.batches", tableProgress,
+                            SoftDeletePurgeProgress.TableProgress::getBatches)
+                    .description("Purge batches committed")
+                    .tag("table", table.getTableName())
+                    .register(registry);
+        });
+    }
+}
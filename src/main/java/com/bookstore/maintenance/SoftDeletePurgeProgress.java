@@ -0,0 +1,58 @@
+package com.bookstore.maintenance;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class SoftDeletePurgeProgress {
+    private final Map<PurgeTable, TableProgress> tables = new EnumMap<>(PurgeTable.class);
+    private volatile boolean running;
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+
+    public SoftDeletePurgeProgress() {
+        for (PurgeTable table : PurgeTable.values()) {
+            tables.put(table, new TableProgress());
+        }
+    }
+
+    public void runStarted() {
+        running = true;
+        lastRunStartedAt = LocalDateTime.now();
+    }
+
+    public void runFinished() {
+        running = false;
+        lastRunFinishedAt = LocalDateTime.now();
+    }
+
+    public void batchPurged(PurgeTable table, int purged, long lastId) {
+        TableProgress progress = tables.get(table);
+        progress.purged.addAndGet(purged);
+        progress.batches.incrementAndGet();
+        progress.lastId.set(lastId);
+    }
+
+    public static class TableProgress {
+        private final AtomicLong purged = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private final AtomicLong lastId = new AtomicLong();
+
+        public long getPurged() {
+            return purged.get();
+        }
+
+        public long getBatches() {
+            return batches.get();
+        }
+
+        public long getLastId() {
+            return lastId.get();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookstore.maintenance;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class SoftDeletePurgeWriter {
+    private static final String ARCHIVE_SQL = "INSERT INTO purged_rows "
+            + "(table_name, row_id, payload, deleted_at, purged_at) "
+            + "VALUES (:tableName, :rowId, :payload, :deletedAt, :purgedAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public int purge(PurgeTable table, List<Long> ids, boolean archive) {
+        Map<String, Object> params = Map.of("ids", ids);
+        if (archive) {
+            archive(table, params);
+        }
+        table.getCleanupStatements().forEach(sql -> jdbcTemplate.update(sql, params));
+        return jdbcTemplate.update(table.deleteBatchSql(), params);
+    }
+
+    private void archive(PurgeTable table, Map<String, Object> params) {
+        Timestamp purgedAt = Timestamp.valueOf(LocalDateTime.now());
+        MapSqlParameterSource[] rows = jdbcTemplate
+                .queryForList(table.selectRowsSql(), params)
+                .stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("tableName", table.getTableName())
+                        .addValue("rowId", ((Number) row.get("id")).longValue())
+                        .addValue("payload", toJson(row))
+                        .addValue("deletedAt", row.get("deleted_at"))
+                        .addValue("purgedAt", purgedAt))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(ARCHIVE_SQL, rows);
+    }
+
+    private String toJson(Map<String, Object> row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't serialize purged row " + row.get("id"), e);
+        }
+    }
+}
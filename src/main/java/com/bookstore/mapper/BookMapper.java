@@ -1,5 +1,6 @@
 package com.bookstore.mapper;
 
+import com.bookstore.catalog.CatalogEntry;
 import com.bookstore.config.MapperConfig;
 import com.bookstore.dto.book.BookDto;
 import com.bookstore.dto.book.BookDtoWithoutCategoryIds;
@@ -18,10 +19,16 @@ public interface BookMapper {
     @Mapping(target = "categoryIds", ignore = true)
     BookDto toDto(Book book);
 
+    BookDto toDto(CatalogEntry entry);
+
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Book toEntity(CreateBookRequestDto bookRequestDto);
 
     BookDtoWithoutCategoryIds toDtoWithoutCategories(Book book);
 
+    BookDtoWithoutCategoryIds toDtoWithoutCategories(CatalogEntry entry);
+
     @AfterMapping default void setCategoryIds(@MappingTarget BookDto bookDto, Book book) {
         bookDto.setCategoryIds(book
                 .getCategories()
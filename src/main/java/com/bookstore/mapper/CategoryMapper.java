@@ -4,10 +4,12 @@ import com.bookstore.config.MapperConfig;
 import com.bookstore.dto.category.CategoryDto;
 import com.bookstore.model.Category;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(config = MapperConfig.class)
 public interface CategoryMapper {
     CategoryDto toDto(Category category);
 
+    @Mapping(target = "version", ignore = true)
     Category toEntity(CategoryDto categoryRequestDto);
 }
@@ -4,6 +4,8 @@ import com.bookstore.config.MapperConfig;
 import com.bookstore.dto.order.OrderResponseDto;
 import com.bookstore.dto.order.OrderUpdateRequestDto;
 import com.bookstore.model.Order;
+import com.bookstore.model.OrderItem;
+import java.util.Collection;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
@@ -15,6 +17,13 @@ public interface OrderMapper {
     })
     OrderResponseDto toDto(Order order);
 
+    @Mappings({
+            @Mapping(target = "id", source = "order.id"),
+            @Mapping(target = "userId", source = "order.user.id"),
+            @Mapping(target = "orderItems", source = "orderItems")
+    })
+    OrderResponseDto toDto(Order order, Collection<OrderItem> orderItems);
+
     Order toModel(OrderUpdateRequestDto orderDto);
 
     OrderUpdateRequestDto toUpdateDto(Order order);
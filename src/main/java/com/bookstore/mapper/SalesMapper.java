@@ -0,0 +1,19 @@
+package com.bookstore.mapper;
+
+import com.bookstore.config.MapperConfig;
+import com.bookstore.dto.sales.BookSalesDto;
+import com.bookstore.dto.sales.CategorySalesDto;
+import com.bookstore.dto.sales.DailySalesDto;
+import com.bookstore.model.BookSales;
+import com.bookstore.model.CategorySales;
+import com.bookstore.model.DailySales;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MapperConfig.class)
+public interface SalesMapper {
+    BookSalesDto toDto(BookSales bookSales);
+
+    CategorySalesDto toDto(CategorySales categorySales);
+
+    DailySalesDto toDto(DailySales dailySales);
+}
@@ -0,0 +1,11 @@
+package com.bookstore.mapper;
+
+import com.bookstore.config.MapperConfig;
+import com.bookstore.dto.inventory.StockReservationDto;
+import com.bookstore.model.StockReservation;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MapperConfig.class)
+public interface StockReservationMapper {
+    StockReservationDto toDto(StockReservation stockReservation);
+}
@@ -20,7 +20,8 @@ import org.hibernate.annotations.Where;
 @Entity
 @Getter
 @Setter
-@SQLDelete(sql = "UPDATE cart_items SET is_deleted = TRUE WHERE id = ?")
+@SQLDelete(sql = "UPDATE cart_items SET is_deleted = TRUE, "
+        + "deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "is_deleted=false")
 @ToString
 @Table(name = "cart_items")
@@ -0,0 +1,27 @@
+package com.bookstore.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Getter
+@Setter
+@ToString
+@Table(name = "category_sales")
+public class CategorySales {
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "quantity_sold", nullable = false)
+    private long quantitySold;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue = BigDecimal.ZERO;
+}
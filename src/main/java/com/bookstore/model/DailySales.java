@@ -0,0 +1,37 @@
+package com.bookstore.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Getter
+@Setter
+@ToString
+@Table(name = "daily_sales")
+public class DailySales {
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(name = "orders_count", nullable = false)
+    private long ordersCount;
+
+    @Column(name = "items_sold", nullable = false)
+    private long itemsSold;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "delivered_count", nullable = false)
+    private long deliveredCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+}
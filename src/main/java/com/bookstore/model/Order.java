@@ -27,7 +27,8 @@ import org.hibernate.annotations.Where;
 @Getter
 @Setter
 @Table(name = "orders")
-@SQLDelete(sql = "UPDATE orders SET is_deleted = TRUE WHERE id = ?")
+@SQLDelete(sql = "UPDATE orders SET is_deleted = TRUE, "
+        + "deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "is_deleted=false")
 public class Order {
     @Id
@@ -10,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,7 +20,8 @@ import org.hibernate.annotations.Where;
 
 @Entity
 @Table(name = "order_items")
-@SQLDelete(sql = "UPDATE order_items SET is_deleted = TRUE WHERE id = ?")
+@SQLDelete(sql = "UPDATE order_items SET is_deleted = TRUE, "
+        + "deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "is_deleted=false")
 @Getter
 @Setter
@@ -44,6 +46,9 @@ public class OrderItem {
     @Column(name = "price", nullable = false)
     private BigDecimal price;
 
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
 
@@ -9,6 +9,7 @@ import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.Data;
@@ -19,7 +20,8 @@ import org.hibernate.annotations.Where;
 
 @Data
 @Entity
-@SQLDelete(sql = "UPDATE shopping_carts SET is_deleted = TRUE WHERE id = ?")
+@SQLDelete(sql = "UPDATE shopping_carts SET is_deleted = TRUE, "
+        + "deleted_at = CURRENT_TIMESTAMP WHERE id = ? AND version = ?")
 @Where(clause = "is_deleted=false")
 @Table(name = "shopping_carts")
 public class ShoppingCart {
@@ -38,6 +40,10 @@ public class ShoppingCart {
     @EqualsAndHashCode.Exclude
     private Set<CartItem> cartItems = new HashSet<>();
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
 
@@ -1,7 +1,26 @@
 package com.bookstore.model;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
 public enum Status {
     DELIVERED,
     PENDING,
-    COMPLETED
+    COMPLETED;
+
+    public Set<Status> getAllowedPreviousStatuses() {
+        return switch (this) {
+            case DELIVERED -> EnumSet.of(PENDING);
+            case COMPLETED -> EnumSet.of(PENDING, DELIVERED);
+            default -> EnumSet.noneOf(Status.class);
+        };
+    }
+
+    public static Optional<Status> fromName(String name) {
+        return Arrays.stream(values())
+                .filter(status -> status.name().equals(name))
+                .findFirst();
+    }
 }
@@ -25,7 +25,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 @Getter
 @Setter
 @Entity
-@SQLDelete(sql = "UPDATE users SET is_deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE users SET is_deleted = true, "
+        + "deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "is_deleted=false")
 @Table(name = "users")
 public class User implements UserDetails {
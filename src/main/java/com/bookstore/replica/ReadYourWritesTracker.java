@@ -0,0 +1,41 @@
+package com.bookstore.replica;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReadYourWritesTracker {
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void markWrite(String user) {
+        stickyUntil.put(user, System.nanoTime() + windowNanos);
+    }
+
+    public boolean isSticky(String user) {
+        Long until = stickyUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        stickyUntil.remove(user, until);
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    int size() {
+        return stickyUntil.size();
+    }
+}
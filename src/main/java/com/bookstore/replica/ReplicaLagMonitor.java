@@ -0,0 +1,68 @@
+package com.bookstore.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+public class ReplicaLagMonitor {
+    static final String LAG_QUERY = "SELECT CASE"
+            + " WHEN NOT pg_is_in_recovery()"
+            + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)"
+            + " END";
+    static final int MISSED_CHECKS = 3;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+    private final long maxCheckAgeNanos;
+    private volatile long lagMillis = -1;
+    private volatile boolean usable;
+    private volatile long lastSuccessfulCheck;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag,
+                             Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLagMillis = maxLag.toMillis();
+        this.maxCheckAgeNanos = checkInterval.multipliedBy(MISSED_CHECKS).toNanos();
+        Gauge.builder("bookstore.datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("Replication lag of the read replica, -1 when unreachable")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isUsable() {
+        // A check stuck on a hung replica must not keep routing reads to it
+        return usable && System.nanoTime() - lastSuccessfulCheck <= maxCheckAgeNanos;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            Double lagSeconds = replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            lagMillis = lagSeconds == null ? 0 : Math.round(lagSeconds * 1000);
+            lastSuccessfulCheck = System.nanoTime();
+            usable = lagMillis <= maxLagMillis;
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Read replica is unreachable, routing reads to the primary", e);
+            }
+            return;
+        }
+        if (wasUsable != usable) {
+            log.info("Read replica lag is {} ms, routing reads to the {}", lagMillis,
+                    usable ? "replica" : "primary");
+        }
+    }
+}
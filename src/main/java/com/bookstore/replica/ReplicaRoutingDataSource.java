@@ -0,0 +1,94 @@
+package com.bookstore.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Map<Reason, Counter> routed = new EnumMap<>(Reason.class);
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        for (Reason reason : Reason.values()) {
+            routed.put(reason, Counter.builder("bookstore.datasource.routed")
+                    .description("Connections handed out by the replica routing data source")
+                    .tag("route", reason.route.name().toLowerCase())
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        Reason reason = decide();
+        routed.get(reason).increment();
+        return reason.route;
+    }
+
+    private Reason decide() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(
+                        new TransactionSynchronization() {
+                            @Override
+                            public void afterCommit() {
+                                readYourWritesTracker.markWrite(user);
+                            }
+                        });
+            }
+            return Reason.WRITE;
+        }
+        if (user != null && readYourWritesTracker.isSticky(user)) {
+            return Reason.READ_YOUR_WRITES;
+        }
+        if (!lagMonitor.isUsable()) {
+            return Reason.REPLICA_LAG;
+        }
+        return Reason.READ_ONLY;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private enum Reason {
+        WRITE(Route.PRIMARY),
+        READ_YOUR_WRITES(Route.PRIMARY),
+        REPLICA_LAG(Route.PRIMARY),
+        READ_ONLY(Route.REPLICA);
+
+        private final Route route;
+
+        Reason(Route route) {
+            this.route = route;
+        }
+    }
+}
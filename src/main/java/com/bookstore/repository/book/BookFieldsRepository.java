@@ -0,0 +1,17 @@
+package com.bookstore.repository.book;
+
+import com.bookstore.dto.book.BookField;
+import com.bookstore.model.Book;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface BookFieldsRepository {
+    List<Map<String, Object>> findAllFields(Specification<Book> spec, Set<BookField> fields,
+                                            Pageable pageable);
+
+    List<Map<String, Object>> findAllFieldsByCategoryId(Long categoryId,
+                                                        Set<BookField> fields);
+}
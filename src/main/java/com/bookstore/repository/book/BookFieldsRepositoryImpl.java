@@ -0,0 +1,92 @@
+package com.bookstore.repository.book;
+
+import com.bookstore.dto.book.BookField;
+import com.bookstore.model.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+@RequiredArgsConstructor
+public class BookFieldsRepositoryImpl implements BookFieldsRepository {
+    private static final String CATEGORY_IDS_QUERY =
+            "SELECT b.id, c.id FROM Book b JOIN b.categories c WHERE b.id IN :bookIds";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllFields(Specification<Book> spec,
+                                                   Set<BookField> fields,
+                                                   Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Book> book = query.from(Book.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(book.get(BookField.ID.getProperty()).alias(BookField.ID.getProperty()));
+        for (BookField field : fields) {
+            if (field.isColumn() && field != BookField.ID) {
+                selections.add(book.get(field.getProperty()).alias(field.getProperty()));
+            }
+        }
+        query.multiselect(selections);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(book, query, criteriaBuilder);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), book, criteriaBuilder));
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return toRows(typedQuery.getResultList(), fields);
+    }
+
+    @Override
+    public List<Map<String, Object>> findAllFieldsByCategoryId(Long categoryId,
+                                                               Set<BookField> fields) {
+        Specification<Book> inCategory = (root, query, criteriaBuilder) -> criteriaBuilder
+                .equal(root.join("categories").get("id"), categoryId);
+        return findAllFields(inCategory, fields, Pageable.unpaged());
+    }
+
+    private List<Map<String, Object>> toRows(List<Tuple> tuples, Set<BookField> fields) {
+        Map<Long, Map<String, Object>> rows = new LinkedHashMap<>();
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (BookField field : fields) {
+                row.put(field.getProperty(), field.isColumn()
+                        ? tuple.get(field.getProperty()) : new LinkedHashSet<Long>());
+            }
+            rows.put(tuple.get(BookField.ID.getProperty(), Long.class), row);
+        }
+        if (fields.contains(BookField.CATEGORY_IDS) && !rows.isEmpty()) {
+            entityManager.createQuery(CATEGORY_IDS_QUERY, Object[].class)
+                    .setParameter("bookIds", rows.keySet())
+                    .getResultList()
+                    .forEach(pair -> categoryIds(rows.get((Long) pair[0])).add((Long) pair[1]));
+        }
+        return List.copyOf(rows.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Long> categoryIds(Map<String, Object> row) {
+        return (Set<Long>) row.get(BookField.CATEGORY_IDS.getProperty());
+    }
+}
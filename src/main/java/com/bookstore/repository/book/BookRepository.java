@@ -1,6 +1,7 @@
 package com.bookstore.repository.book;
 
 import com.bookstore.model.Book;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -11,7 +12,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
-public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>,
+        BookFieldsRepository, BookStockRepository {
 
     @Query("SELECT b FROM Book b JOIN b.categories c WHERE c.id = :categoryId")
     List<Book> findAllByCategoryId(Long categoryId);
@@ -22,6 +24,21 @@ public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificat
     @Query("SELECT b FROM Book b LEFT JOIN FETCH b.categories")
     List<Book> findAllWithCategories(Pageable pageable);
 
+    @Query("SELECT b.id FROM Book b")
+    List<Long> findAllIds(Pageable pageable);
+
+    @Query("SELECT DISTINCT b FROM Book b LEFT JOIN FETCH b.categories WHERE b.id IN :ids")
+    List<Book> findAllWithCategoriesByIdIn(Collection<Long> ids);
+
     @EntityGraph(attributePaths = "categories")
     Page<Book> findAll(Specification<Book> spec, Pageable pageable);
+
+    @Query("SELECT b.id, c.id FROM Book b JOIN b.categories c WHERE b.id IN :bookIds")
+    List<Object[]> findCategoryIdsByBookIds(Collection<Long> bookIds);
+
+    @Query("SELECT b.version FROM Book b WHERE b.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("SELECT b.stock FROM Book b WHERE b.id = :id")
+    Optional<Integer> findStockById(Long id);
 }
@@ -0,0 +1,7 @@
+package com.bookstore.repository.book;
+
+public interface BookStockRepository {
+    int decreaseStock(Long id, int quantity);
+
+    int increaseStock(Long id, int quantity);
+}
@@ -0,0 +1,61 @@
+package com.bookstore.repository.book;
+
+import com.bookstore.model.Book;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+public class BookStockRepositoryImpl implements BookStockRepository {
+    private static final String DECREASE_STOCK_SQL = "UPDATE books "
+            + "SET stock = stock - :quantity, version = version + 1, "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "WHERE id = :id AND is_deleted = FALSE AND stock >= :quantity";
+    private static final String INCREASE_STOCK_SQL = "UPDATE books "
+            + "SET stock = stock + :quantity, version = version + 1, "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "WHERE id = :id AND is_deleted = FALSE";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int decreaseStock(Long id, int quantity) {
+        return updateStock(DECREASE_STOCK_SQL, id, quantity);
+    }
+
+    @Override
+    public int increaseStock(Long id, int quantity) {
+        return updateStock(INCREASE_STOCK_SQL, id, quantity);
+    }
+
+    private int updateStock(String sql, Long id, int quantity) {
+        int updated = jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("quantity", quantity));
+        if (updated == 0) {
+            return 0;
+        }
+        // Plain JDBC keeps Hibernate from evicting the whole Book region the way a bulk
+        // update does, so only this book's entry is dropped once the new stock is visible
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evict(id);
+                        }
+                    });
+        } else {
+            evict(id);
+        }
+        return updated;
+    }
+
+    private void evict(Long id) {
+        entityManagerFactory.getCache().evict(Book.class, id);
+    }
+}
@@ -1,15 +1,23 @@
 package com.bookstore.repository.category;
 
 import com.bookstore.model.Category;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Set<Category> findByIdIn(Set<Long> categoryIds);
 
     @Query("SELECT c FROM Category c")
     List<Category> findAllWithPages(Pageable pageable);
+
+    @Query("SELECT c.version FROM Category c WHERE c.id = :id")
+    Optional<Long> findVersionById(Long id);
 }
@@ -0,0 +1,24 @@
+package com.bookstore.repository.inventory;
+
+import com.bookstore.model.StockReservation;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+    List<StockReservation> findAllByUserId(Long userId);
+
+    Optional<StockReservation> findByUserIdAndBookIdAndExpiresAtAfter(
+            Long userId, Long bookId, LocalDateTime now);
+
+    @Query(value = "SELECT * FROM stock_reservations WHERE expires_at < :now "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<StockReservation> findExpiredForUpdate(LocalDateTime now, int limit);
+
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.id = :id")
+    int deleteReservationById(Long id);
+}
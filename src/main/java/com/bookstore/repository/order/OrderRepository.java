@@ -1,16 +1,35 @@
 package com.bookstore.repository.order;
 
 import com.bookstore.model.Order;
+import com.bookstore.model.Status;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems LEFT JOIN FETCH o.user")
     List<Order> findAllOrders(Pageable pageable);
 
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.orderDate >= :since "
+            + "ORDER BY o.orderDate DESC")
+    List<Order> findRecentOrdersByUserId(Long userId, LocalDateTime since, Pageable pageable);
+
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id = :id")
     Optional<Order> findById(Long id);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :status WHERE o.id IN :ids "
+            + "AND o.status IN :allowedStatuses AND o.isDeleted = false")
+    int updateStatusByIds(Collection<Long> ids, Collection<Status> allowedStatuses,
+                          Status status);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :status WHERE o.status = :currentStatus "
+            + "AND o.orderDate < :placedBefore AND o.isDeleted = false")
+    int updateStatusByFilter(Status currentStatus, LocalDateTime placedBefore, Status status);
 }
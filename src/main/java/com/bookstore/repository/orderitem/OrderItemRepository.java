@@ -0,0 +1,14 @@
+package com.bookstore.repository.orderitem;
+
+import com.bookstore.model.OrderItem;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+    @Query("SELECT i FROM OrderItem i WHERE i.order.id IN :orderIds "
+            + "AND i.orderDate >= :since")
+    List<OrderItem> findAllByOrderIdsSince(Collection<Long> orderIds, LocalDateTime since);
+}
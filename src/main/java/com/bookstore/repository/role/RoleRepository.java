@@ -2,8 +2,12 @@ package com.bookstore.repository.role;
 
 import com.bookstore.model.Role;
 import com.bookstore.model.RoleName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Role findRoleByName(RoleName name);
 }
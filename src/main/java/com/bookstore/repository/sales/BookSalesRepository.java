@@ -0,0 +1,14 @@
+package com.bookstore.repository.sales;
+
+import com.bookstore.model.BookSales;
+import java.math.BigDecimal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface BookSalesRepository extends JpaRepository<BookSales, Long> {
+    @Modifying
+    @Query("UPDATE BookSales s SET s.quantitySold = s.quantitySold + :quantity, "
+            + "s.revenue = s.revenue + :revenue WHERE s.bookId = :bookId")
+    int increment(Long bookId, long quantity, BigDecimal revenue);
+}
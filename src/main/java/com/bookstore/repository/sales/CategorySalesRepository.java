@@ -0,0 +1,14 @@
+package com.bookstore.repository.sales;
+
+import com.bookstore.model.CategorySales;
+import java.math.BigDecimal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface CategorySalesRepository extends JpaRepository<CategorySales, Long> {
+    @Modifying
+    @Query("UPDATE CategorySales s SET s.quantitySold = s.quantitySold + :quantity, "
+            + "s.revenue = s.revenue + :revenue WHERE s.categoryId = :categoryId")
+    int increment(Long categoryId, long quantity, BigDecimal revenue);
+}
@@ -0,0 +1,22 @@
+package com.bookstore.repository.sales;
+
+import com.bookstore.model.DailySales;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface DailySalesRepository extends JpaRepository<DailySales, LocalDate> {
+    @Modifying
+    @Query("UPDATE DailySales s SET s.ordersCount = s.ordersCount + :orders, "
+            + "s.itemsSold = s.itemsSold + :items, s.revenue = s.revenue + :revenue, "
+            + "s.deliveredCount = s.deliveredCount + :delivered, "
+            + "s.completedCount = s.completedCount + :completed "
+            + "WHERE s.salesDate = :salesDate")
+    int increment(LocalDate salesDate, long orders, long items, BigDecimal revenue,
+                  long delivered, long completed);
+
+    List<DailySales> findAllBySalesDateBetweenOrderBySalesDate(LocalDate from, LocalDate to);
+}
@@ -1,15 +1,29 @@
 package com.bookstore.repository.shoppingcart;
 
 import com.bookstore.model.ShoppingCart;
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
 public interface ShoppingCartRepository extends JpaRepository<ShoppingCart, Long> {
-    @Query("SELECT sc FROM ShoppingCart sc LEFT JOIN FETCH sc.cartItems WHERE sc.id = :id")
+    @Query("SELECT sc FROM ShoppingCart sc LEFT JOIN FETCH sc.cartItems ci "
+            + "LEFT JOIN FETCH ci.book WHERE sc.id = :id")
     Optional<ShoppingCart> findById(Long id);
 
-    @Query("SELECT sc FROM ShoppingCart sc LEFT JOIN FETCH sc.cartItems")
+    @Query("SELECT sc FROM ShoppingCart sc LEFT JOIN FETCH sc.cartItems ci "
+            + "LEFT JOIN FETCH ci.book")
     List<ShoppingCart> findAll();
+
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT sc FROM ShoppingCart sc WHERE sc.id = :id")
+    Optional<ShoppingCart> lockById(Long id);
+
+    @Query("SELECT CONCAT(CAST(sc.version AS String), '.', "
+            + "CAST(COALESCE(SUM(b.version), 0) AS String)) FROM ShoppingCart sc "
+            + "LEFT JOIN sc.cartItems ci LEFT JOIN ci.book b WHERE sc.id = :id "
+            + "GROUP BY sc.version")
+    Optional<String> findVersionTagById(Long id);
 }
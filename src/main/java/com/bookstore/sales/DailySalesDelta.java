@@ -0,0 +1,27 @@
+package com.bookstore.sales;
+
+import com.bookstore.model.Status;
+import java.math.BigDecimal;
+
+public record DailySalesDelta(long orders, long items, BigDecimal revenue,
+                              long delivered, long completed) {
+    public static DailySalesDelta ofOrder(long items, BigDecimal revenue) {
+        return new DailySalesDelta(1, items, revenue, 0, 0);
+    }
+
+    public static DailySalesDelta ofStatus(Status status, long count) {
+        return switch (status) {
+            case DELIVERED -> new DailySalesDelta(0, 0, BigDecimal.ZERO, count, 0);
+            case COMPLETED -> new DailySalesDelta(0, 0, BigDecimal.ZERO, 0, count);
+            default -> new DailySalesDelta(0, 0, BigDecimal.ZERO, 0, 0);
+        };
+    }
+
+    public DailySalesDelta plus(DailySalesDelta other) {
+        return new DailySalesDelta(orders + other.orders,
+                items + other.items,
+                revenue.add(other.revenue),
+                delivered + other.delivered,
+                completed + other.completed);
+    }
+}
@@ -0,0 +1,20 @@
+package com.bookstore.sales;
+
+import com.bookstore.model.Order;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record OrderPlacedEvent(LocalDateTime orderDate, List<OrderLine> lines) {
+    public static OrderPlacedEvent from(Order order) {
+        List<OrderLine> lines = order.getOrderItems().stream()
+                .map(item -> new OrderLine(item.getBook().getId(),
+                        item.getQuantity(),
+                        item.getPrice()))
+                .toList();
+        return new OrderPlacedEvent(order.getOrderDate(), lines);
+    }
+
+    public record OrderLine(Long bookId, int quantity, BigDecimal amount) {
+    }
+}
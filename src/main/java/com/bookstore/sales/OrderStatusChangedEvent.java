@@ -0,0 +1,7 @@
+package com.bookstore.sales;
+
+import com.bookstore.model.Status;
+import java.time.LocalDateTime;
+
+public record OrderStatusChangedEvent(Status status, long count, LocalDateTime changedAt) {
+}
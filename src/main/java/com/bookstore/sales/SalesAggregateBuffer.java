@@ -0,0 +1,84 @@
+package com.bookstore.sales;
+
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesAggregateBuffer {
+    private final SalesAggregateWriter salesAggregateWriter;
+    private final Map<Long, SalesDelta> bookDeltas = new ConcurrentHashMap<>();
+    private final Map<LocalDate, DailySalesDelta> dailyDeltas = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        long items = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (OrderPlacedEvent.OrderLine line : event.lines()) {
+            bookDeltas.merge(line.bookId(),
+                    new SalesDelta(line.quantity(), line.amount()),
+                    SalesDelta::plus);
+            items += line.quantity();
+            revenue = revenue.add(line.amount());
+        }
+        dailyDeltas.merge(event.orderDate().toLocalDate(),
+                DailySalesDelta.ofOrder(items, revenue),
+                DailySalesDelta::plus);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        dailyDeltas.merge(event.changedAt().toLocalDate(),
+                DailySalesDelta.ofStatus(event.status(), event.count()),
+                DailySalesDelta::plus);
+    }
+
+    @Scheduled(fixedDelayString = "${sales.aggregates.flush-interval:5000}")
+    public void flush() {
+        SortedMap<Long, SalesDelta> books = drain(bookDeltas);
+        SortedMap<LocalDate, DailySalesDelta> days = drain(dailyDeltas);
+        if (books.isEmpty() && days.isEmpty()) {
+            return;
+        }
+        try {
+            salesAggregateWriter.write(books, days);
+        } catch (RuntimeException e) {
+            log.warn("Can't flush sales aggregates, deltas will be retried", e);
+            restore(bookDeltas, books, SalesDelta::plus);
+            restore(dailyDeltas, days, DailySalesDelta::plus);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static <K, V> SortedMap<K, V> drain(Map<K, V> deltas) {
+        SortedMap<K, V> drained = new TreeMap<>();
+        for (K key : deltas.keySet()) {
+            V value = deltas.remove(key);
+            if (value != null) {
+                drained.put(key, value);
+            }
+        }
+        return drained;
+    }
+
+    private static <K, V> void restore(Map<K, V> deltas, Map<K, V> drained,
+                                       BinaryOperator<V> merger) {
+        drained.forEach((key, value) -> deltas.merge(key, value, merger));
+    }
+}
@@ -0,0 +1,81 @@
+package com.bookstore.sales;
+
+import com.bookstore.model.BookSales;
+import com.bookstore.model.CategorySales;
+import com.bookstore.model.DailySales;
+import com.bookstore.repository.book.BookRepository;
+import com.bookstore.repository.sales.BookSalesRepository;
+import com.bookstore.repository.sales.CategorySalesRepository;
+import com.bookstore.repository.sales.DailySalesRepository;
+import java.time.LocalDate;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class SalesAggregateWriter {
+    private final BookSalesRepository bookSalesRepository;
+    private final CategorySalesRepository categorySalesRepository;
+    private final DailySalesRepository dailySalesRepository;
+    private final BookRepository bookRepository;
+
+    @Transactional
+    public void write(SortedMap<Long, SalesDelta> bookDeltas,
+                      SortedMap<LocalDate, DailySalesDelta> dailyDeltas) {
+        bookDeltas.forEach(this::applyBookDelta);
+        toCategoryDeltas(bookDeltas).forEach(this::applyCategoryDelta);
+        dailyDeltas.forEach(this::applyDailyDelta);
+    }
+
+    private SortedMap<Long, SalesDelta> toCategoryDeltas(SortedMap<Long, SalesDelta> bookDeltas) {
+        SortedMap<Long, SalesDelta> categoryDeltas = new TreeMap<>();
+        if (bookDeltas.isEmpty()) {
+            return categoryDeltas;
+        }
+        for (Object[] pair : bookRepository.findCategoryIdsByBookIds(bookDeltas.keySet())) {
+            Long bookId = (Long) pair[0];
+            Long categoryId = (Long) pair[1];
+            categoryDeltas.merge(categoryId, bookDeltas.get(bookId), SalesDelta::plus);
+        }
+        return categoryDeltas;
+    }
+
+    private void applyBookDelta(Long bookId, SalesDelta delta) {
+        if (bookSalesRepository.increment(bookId, delta.quantity(), delta.revenue()) == 0) {
+            BookSales bookSales = new BookSales();
+            bookSales.setBookId(bookId);
+            bookSales.setQuantitySold(delta.quantity());
+            bookSales.setRevenue(delta.revenue());
+            bookSalesRepository.save(bookSales);
+        }
+    }
+
+    private void applyCategoryDelta(Long categoryId, SalesDelta delta) {
+        if (categorySalesRepository
+                .increment(categoryId, delta.quantity(), delta.revenue()) == 0) {
+            CategorySales categorySales = new CategorySales();
+            categorySales.setCategoryId(categoryId);
+            categorySales.setQuantitySold(delta.quantity());
+            categorySales.setRevenue(delta.revenue());
+            categorySalesRepository.save(categorySales);
+        }
+    }
+
+    private void applyDailyDelta(LocalDate salesDate, DailySalesDelta delta) {
+        int updated = dailySalesRepository.increment(salesDate, delta.orders(), delta.items(),
+                delta.revenue(), delta.delivered(), delta.completed());
+        if (updated == 0) {
+            DailySales dailySales = new DailySales();
+            dailySales.setSalesDate(salesDate);
+            dailySales.setOrdersCount(delta.orders());
+            dailySales.setItemsSold(delta.items());
+            dailySales.setRevenue(delta.revenue());
+            dailySales.setDeliveredCount(delta.delivered());
+            dailySales.setCompletedCount(delta.completed());
+            dailySalesRepository.save(dailySales);
+        }
+    }
+}
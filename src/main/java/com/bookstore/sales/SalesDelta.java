@@ -0,0 +1,9 @@
+package com.bookstore.sales;
+
+import java.math.BigDecimal;
+
+public record SalesDelta(long quantity, BigDecimal revenue) {
+    public SalesDelta plus(SalesDelta other) {
+        return new SalesDelta(quantity + other.quantity, revenue.add(other.revenue));
+    }
+}
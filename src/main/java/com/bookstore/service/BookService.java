@@ -2,9 +2,13 @@ package com.bookstore.service;
 
 import com.bookstore.dto.book.BookDto;
 import com.bookstore.dto.book.BookDtoWithoutCategoryIds;
+import com.bookstore.dto.book.BookField;
 import com.bookstore.dto.book.BookSearchParametersDto;
 import com.bookstore.dto.book.CreateBookRequestDto;
+import com.bookstore.json.JsonFragments;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.data.domain.Pageable;
 
 public interface BookService {
@@ -12,13 +16,29 @@ public interface BookService {
 
     List<BookDto> findAll(Pageable pageable);
 
+    List<Map<String, Object>> findAll(Set<BookField> fields, Pageable pageable);
+
+    JsonFragments findAllAsJson(Pageable pageable);
+
     BookDto findById(Long id);
 
+    JsonFragments findByIdAsJson(Long id);
+
+    long getVersion(Long id);
+
     void deleteById(Long id);
 
     BookDto updateBookById(Long id, CreateBookRequestDto createBookRequestDto);
 
+    BookDto updateBookById(Long id, CreateBookRequestDto createBookRequestDto,
+                           Long expectedVersion);
+
     List<BookDto> search(BookSearchParametersDto params, Pageable pageable);
 
+    List<Map<String, Object>> search(BookSearchParametersDto params, Set<BookField> fields,
+                                     Pageable pageable);
+
     List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long categoryId);
+
+    List<Map<String, Object>> findAllByCategoryId(Long categoryId, Set<BookField> fields);
 }
@@ -9,9 +9,13 @@ public interface CategoryService {
 
     CategoryDto getById(Long id);
 
+    long getVersion(Long id);
+
     CategoryDto save(CategoryDto categoryDto);
 
     CategoryDto update(Long id, CategoryDto categoryDto);
 
+    CategoryDto update(Long id, CategoryDto categoryDto, Long expectedVersion);
+
     void deleteById(Long id);
 }
@@ -0,0 +1,17 @@
+package com.bookstore.service;
+
+import com.bookstore.dto.inventory.StockReservationDto;
+import java.util.List;
+import java.util.Map;
+
+public interface InventoryService {
+    List<StockReservationDto> reserveCart();
+
+    List<StockReservationDto> findReservations();
+
+    void takeStock(Long userId, Map<Long, Integer> quantities);
+
+    void addStock(Long bookId, int quantity);
+
+    int releaseExpiredReservations(int limit);
+}
@@ -0,0 +1,7 @@
+package com.bookstore.service;
+
+import com.bookstore.dto.maintenance.PurgeProgressDto;
+
+public interface MaintenanceService {
+    PurgeProgressDto getPurgeProgress();
+}
@@ -1,5 +1,7 @@
 package com.bookstore.service;
 
+import com.bookstore.dto.order.OrderBulkStatusUpdateRequestDto;
+import com.bookstore.dto.order.OrderBulkStatusUpdateResponseDto;
 import com.bookstore.dto.order.OrderRequestDto;
 import com.bookstore.dto.order.OrderResponseDto;
 import com.bookstore.dto.order.OrderUpdateRequestDto;
@@ -13,11 +15,16 @@ public interface OrderService {
 
     List<OrderResponseDto> findAllOrders(Pageable pageable);
 
+    List<OrderResponseDto> findRecentOrders(Pageable pageable);
+
     OrderResponseDto updateOrderStatus(
             Long orderId,
             OrderUpdateRequestDto orderUpdateRequestDto
             );
 
+    OrderBulkStatusUpdateResponseDto updateOrderStatuses(
+            OrderBulkStatusUpdateRequestDto requestDto);
+
     Set<OrderItemResponseDto> findAllOrderItems(Long orderId);
 
     OrderItemResponseDto findOrderItemById(Long orderId, Long itemId);
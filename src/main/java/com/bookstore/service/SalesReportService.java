@@ -0,0 +1,16 @@
+package com.bookstore.service;
+
+import com.bookstore.dto.sales.BookSalesDto;
+import com.bookstore.dto.sales.CategorySalesDto;
+import com.bookstore.dto.sales.DailySalesDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+
+public interface SalesReportService {
+    List<BookSalesDto> findBookSales(Pageable pageable);
+
+    List<CategorySalesDto> findCategorySales(Pageable pageable);
+
+    List<DailySalesDto> findDailySales(LocalDate from, LocalDate to);
+}
@@ -14,5 +14,7 @@ public interface ShoppingCartService {
 
     ShoppingCartDto findAllByUser();
 
+    String getVersionTag();
+
     CartItemDto updateQuantity(Long cartItemId, CartItemUpdateDto cartItem);
 }
@@ -1,10 +1,19 @@
 package com.bookstore.service.impl;
 
+import com.bookstore.cache.BookReadCache;
+import com.bookstore.cache.CatalogChangedEvent;
+import com.bookstore.cache.PopularityTracker;
+import com.bookstore.catalog.BookJsonCache;
+import com.bookstore.catalog.CatalogEntry;
+import com.bookstore.catalog.CatalogIndex;
 import com.bookstore.dto.book.BookDto;
 import com.bookstore.dto.book.BookDtoWithoutCategoryIds;
+import com.bookstore.dto.book.BookField;
 import com.bookstore.dto.book.BookSearchParametersDto;
 import com.bookstore.dto.book.CreateBookRequestDto;
 import com.bookstore.exception.EntityNotFoundException;
+import com.bookstore.exception.PreconditionFailedException;
+import com.bookstore.json.JsonFragments;
 import com.bookstore.mapper.BookMapper;
 import com.bookstore.model.Book;
 import com.bookstore.model.Category;
@@ -12,31 +21,53 @@ import com.bookstore.repository.book.BookRepository;
 import com.bookstore.repository.book.BookSpecificationBuilder;
 import com.bookstore.repository.category.CategoryRepository;
 import com.bookstore.service.BookService;
+import io.micrometer.core.annotation.Timed;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
+@Timed(value = "bookstore.service", histogram = true)
 public class BookServiceImpl implements BookService {
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
     private final BookSpecificationBuilder bookSpecificationBuilder;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookReadCache bookReadCache;
+    private final CatalogIndex catalogIndex;
+    private final BookJsonCache bookJsonCache;
+    private final PopularityTracker popularityTracker;
 
     @Override
+    @Transactional
     public BookDto save(CreateBookRequestDto bookRequestDto) {
         Set<Category> categories = categoryRepository
                 .findByIdIn(bookRequestDto.getCategoryIds());
         Book book = bookMapper.toEntity(bookRequestDto);
         book.setCategories(categories);
-        return bookMapper.toDto(bookRepository.save(book));
+        Book savedBook = bookRepository.save(book);
+        eventPublisher.publishEvent(CatalogChangedEvent.book(savedBook.getId()));
+        return bookMapper.toDto(savedBook);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookDto> findAll(Pageable pageable) {
         return bookRepository.findAllWithCategories(pageable)
                 .stream()
@@ -44,26 +75,97 @@ public class BookServiceImpl implements BookService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(Set<BookField> fields, Pageable pageable) {
+        return bookRepository.findAllFields(null, fields, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JsonFragments findAllAsJson(Pageable pageable) {
+        if (catalogIndex.isReady()) {
+            List<Long> ids = bookRepository.findAllIds(pageable);
+            Map<Long, ByteBuffer> books = new HashMap<>();
+            ids.forEach(id -> bookJsonCache.find(id).ifPresent(json -> books.put(id, json)));
+            if (books.size() < ids.size()) {
+                // Books committed after the last index refresh are read from the database
+                bookRepository.findAllWithCategoriesByIdIn(ids.stream()
+                                .filter(id -> !books.containsKey(id))
+                                .toList())
+                        .forEach(book -> books.put(book.getId(),
+                                bookJsonCache.serialize(bookMapper.toDto(book))));
+            }
+            return JsonFragments.array(ids.stream()
+                    .map(books::get)
+                    .filter(Objects::nonNull)
+                    .toList());
+        }
+        return JsonFragments.array(findAll(pageable)
+                .stream()
+                .map(bookJsonCache::serialize)
+                .toList());
+    }
+
     @Override
     public BookDto findById(Long id) {
-        return bookRepository.findBookById(id)
-                .map(bookMapper::toDto)
-                .orElseThrow(
-                        () -> new EntityNotFoundException("Can't find book by id: " + id));
+        BookDto book = catalogIndex.isReady()
+                ? catalogIndex.find(id)
+                        .map(bookMapper::toDto)
+                        .orElseThrow(() -> new EntityNotFoundException("Can't find book by id: "
+                                + id))
+                : bookReadCache.get(id);
+        popularityTracker.recordBook(id);
+        return book;
     }
 
     @Override
+    public JsonFragments findByIdAsJson(Long id) {
+        JsonFragments book = catalogIndex.isReady()
+                ? bookJsonCache.find(id)
+                        .map(JsonFragments::single)
+                        .orElseThrow(() -> new EntityNotFoundException("Can't find book by id: "
+                                + id))
+                : JsonFragments.single(bookJsonCache.serialize(bookReadCache.get(id)));
+        popularityTracker.recordBook(id);
+        return book;
+    }
+
+    @Override
+    public long getVersion(Long id) {
+        OptionalLong version = catalogIndex.isReady() ? catalogIndex.version(id)
+                : bookRepository.findVersionById(id).map(OptionalLong::of)
+                        .orElseGet(OptionalLong::empty);
+        return version.orElseThrow(() -> new EntityNotFoundException("Can't find book by id: "
+                + id));
+    }
+
+    @Override
+    @Transactional
     public void deleteById(Long id) {
         bookRepository.deleteById(id);
+        eventPublisher.publishEvent(CatalogChangedEvent.book(id));
     }
 
     @Override
+    @Transactional
     public BookDto updateBookById(Long id, CreateBookRequestDto createBookRequestDto) {
-        Set<Category> categories = categoryRepository
-                .findByIdIn(createBookRequestDto.getCategoryIds());
+        return updateBookById(id, createBookRequestDto, null);
+    }
+
+    @Override
+    @Transactional
+    public BookDto updateBookById(Long id, CreateBookRequestDto createBookRequestDto,
+                                  Long expectedVersion) {
         Book book = bookRepository
                 .findBookById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Category not found"));
+        if (expectedVersion != null && !expectedVersion.equals(book.getVersion())) {
+            throw new PreconditionFailedException("Book " + id + " was modified, expected "
+                    + "version " + expectedVersion + " but found " + book.getVersion());
+        }
+        Set<Category> categories = categoryRepository
+                .findByIdIn(createBookRequestDto.getCategoryIds());
         book.setTitle(createBookRequestDto.getTitle());
         book.setAuthor(createBookRequestDto.getAuthor());
         book.setIsbn(createBookRequestDto.getIsbn());
@@ -71,10 +173,13 @@ public class BookServiceImpl implements BookService {
         book.setCoverImage(createBookRequestDto.getCoverImage());
         book.setDescription(createBookRequestDto.getDescription());
         book.setCategories(categories);
-        return bookMapper.toDto(bookRepository.save(book));
+        Book savedBook = bookRepository.save(book);
+        eventPublisher.publishEvent(CatalogChangedEvent.book(id));
+        return bookMapper.toDto(savedBook);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookDto> search(BookSearchParametersDto params, Pageable pageable) {
         Specification<Book> bookSpecification = bookSpecificationBuilder.build(params);
         return bookRepository.findAll(bookSpecification, pageable)
@@ -84,10 +189,58 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> search(BookSearchParametersDto params,
+                                            Set<BookField> fields,
+                                            Pageable pageable) {
+        return bookRepository.findAllFields(bookSpecificationBuilder.build(params), fields,
+                pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long categoryId) {
+        if (catalogIndex.isReady()) {
+            return catalogIndex.findInCategory(categoryId)
+                    .stream()
+                    .map(bookMapper::toDtoWithoutCategories)
+                    .toList();
+        }
         return bookRepository.findAllByCategoryId(categoryId)
                 .stream()
                 .map(bookMapper::toDtoWithoutCategories)
                 .toList();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAllByCategoryId(Long categoryId,
+                                                         Set<BookField> fields) {
+        if (catalogIndex.isReady()) {
+            return catalogIndex.findInCategory(categoryId)
+                    .stream()
+                    .map(entry -> fieldsOf(entry, fields))
+                    .toList();
+        }
+        return bookRepository.findAllFieldsByCategoryId(categoryId, fields);
+    }
+
+    private static Map<String, Object> fieldsOf(CatalogEntry entry, Set<BookField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (BookField field : fields) {
+            row.put(field.getProperty(), switch (field) {
+                case ID -> entry.id();
+                case TITLE -> entry.title();
+                case AUTHOR -> entry.author();
+                case ISBN -> entry.isbn();
+                case PRICE -> entry.price();
+                case DESCRIPTION -> entry.description();
+                case COVER_IMAGE -> entry.coverImage();
+                case STOCK -> entry.stock();
+                case CATEGORY_IDS -> Arrays.stream(entry.categoryIds()).boxed()
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+            });
+        }
+        return row;
+    }
 }
@@ -1,23 +1,29 @@
 package com.bookstore.service.impl;
 
+import com.bookstore.cache.CatalogChangedEvent;
 import com.bookstore.dto.category.CategoryDto;
 import com.bookstore.exception.EntityNotFoundException;
+import com.bookstore.exception.PreconditionFailedException;
 import com.bookstore.mapper.CategoryMapper;
 import com.bookstore.model.Category;
 import com.bookstore.repository.category.CategoryRepository;
 import com.bookstore.service.CategoryService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<CategoryDto> findAllWithPages(Pageable pageable) {
         return categoryRepository.findAllWithPages(pageable)
                 .stream()
@@ -26,6 +32,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CategoryDto getById(Long id) {
         return categoryRepository
                 .findById(id)
@@ -35,24 +42,49 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public long getVersion(Long id) {
+        return categoryRepository.findVersionById(id)
+                .orElseThrow(
+                        () -> new EntityNotFoundException("Can't find category by id " + id));
+    }
+
+    @Override
+    @Transactional
     public CategoryDto save(CategoryDto categoryDto) {
         Category category = categoryMapper.toEntity(categoryDto);
-        return categoryMapper.toDto(categoryRepository.save(category));
+        Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(CatalogChangedEvent.category(savedCategory.getId()));
+        return categoryMapper.toDto(savedCategory);
     }
 
     @Override
+    @Transactional
     public CategoryDto update(Long id, CategoryDto categoryDto) {
+        return update(id, categoryDto, null);
+    }
+
+    @Override
+    @Transactional
+    public CategoryDto update(Long id, CategoryDto categoryDto, Long expectedVersion) {
         Category category = categoryRepository
                 .findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Category not found"));
+        if (expectedVersion != null && !expectedVersion.equals(category.getVersion())) {
+            throw new PreconditionFailedException("Category " + id + " was modified, expected "
+                    + "version " + expectedVersion + " but found " + category.getVersion());
+        }
         category.setName(categoryDto.getName());
         category.setDescription(categoryDto.getDescription());
         Category updatedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(CatalogChangedEvent.category(id));
         return categoryMapper.toDto(updatedCategory);
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(CatalogChangedEvent.category(id));
     }
 }
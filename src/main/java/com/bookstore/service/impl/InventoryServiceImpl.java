@@ -0,0 +1,145 @@
+package com.bookstore.service.impl;
+
+import com.bookstore.cache.CatalogChangedEvent;
+import com.bookstore.dto.inventory.StockReservationDto;
+import com.bookstore.exception.EntityNotFoundException;
+import com.bookstore.exception.InsufficientStockException;
+import com.bookstore.inventory.FlashSaleStock;
+import com.bookstore.mapper.StockReservationMapper;
+import com.bookstore.model.CartItem;
+import com.bookstore.model.ShoppingCart;
+import com.bookstore.model.StockReservation;
+import com.bookstore.model.User;
+import com.bookstore.repository.book.BookRepository;
+import com.bookstore.repository.inventory.StockReservationRepository;
+import com.bookstore.repository.shoppingcart.ShoppingCartRepository;
+import com.bookstore.service.InventoryService;
+import com.bookstore.service.UserService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class InventoryServiceImpl implements InventoryService {
+    private final BookRepository bookRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final ShoppingCartRepository shoppingCartRepository;
+    private final UserService userService;
+    private final StockReservationMapper stockReservationMapper;
+    private final FlashSaleStock flashSaleStock;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${inventory.reservation.ttl:PT10M}")
+    private Duration reservationTtl;
+
+    @Override
+    @Transactional
+    public List<StockReservationDto> reserveCart() {
+        User user = getCurrentUser();
+        ShoppingCart shoppingCart = shoppingCartRepository.findById(user.getId())
+                .orElseThrow(() -> new EntityNotFoundException("Can't "
+                        + "get shopping cart with id " + user.getId()));
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (CartItem cartItem : shoppingCart.getCartItems()) {
+            quantities.merge(cartItem.getBook().getId(), cartItem.getQuantity(), Integer::sum);
+        }
+        takeStock(user.getId(), quantities);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(reservationTtl);
+        List<StockReservation> reservations = quantities.entrySet().stream()
+                .map(entry -> {
+                    StockReservation reservation = new StockReservation();
+                    reservation.setUserId(user.getId());
+                    reservation.setBookId(entry.getKey());
+                    reservation.setQuantity(entry.getValue());
+                    reservation.setExpiresAt(expiresAt);
+                    return reservation;
+                })
+                .toList();
+        return stockReservationRepository.saveAll(reservations).stream()
+                .map(stockReservationMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockReservationDto> findReservations() {
+        return stockReservationRepository.findAllByUserId(getCurrentUser().getId()).stream()
+                .map(stockReservationMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void takeStock(Long userId, Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> deltas = new TreeMap<>(quantities);
+        for (StockReservation reservation : stockReservationRepository.findAllByUserId(userId)) {
+            if (stockReservationRepository.deleteReservationById(reservation.getId()) == 1) {
+                deltas.merge(reservation.getBookId(), -reservation.getQuantity(),
+                        Integer::sum);
+            }
+        }
+        deltas.forEach((bookId, delta) -> {
+            if (delta > 0 && !decreaseStock(bookId, delta)) {
+                throw new InsufficientStockException("Not enough stock for book with id "
+                        + bookId);
+            }
+            if (delta < 0) {
+                bookRepository.increaseStock(bookId, -delta);
+            }
+            if (delta != 0) {
+                eventPublisher.publishEvent(CatalogChangedEvent.book(bookId));
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void addStock(Long bookId, int quantity) {
+        if (bookRepository.increaseStock(bookId, quantity) == 0) {
+            throw new EntityNotFoundException("Can't find book with id " + bookId);
+        }
+        eventPublisher.publishEvent(CatalogChangedEvent.book(bookId));
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredReservations(int limit) {
+        List<StockReservation> expired = stockReservationRepository
+                .findExpiredForUpdate(LocalDateTime.now(), limit);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        SortedMap<Long, Integer> released = new TreeMap<>();
+        for (StockReservation reservation : expired) {
+            released.merge(reservation.getBookId(), reservation.getQuantity(), Integer::sum);
+        }
+        released.forEach((bookId, quantity) -> {
+            bookRepository.increaseStock(bookId, quantity);
+            eventPublisher.publishEvent(CatalogChangedEvent.book(bookId));
+        });
+        stockReservationRepository.deleteAllInBatch(expired);
+        return expired.size();
+    }
+
+    private boolean decreaseStock(Long bookId, int quantity) {
+        if (!flashSaleStock.covers(bookId)) {
+            return bookRepository.decreaseStock(bookId, quantity) == 1;
+        }
+        return flashSaleStock.tryTake(bookId, quantity);
+    }
+
+    private User getCurrentUser() {
+        return userService
+                .getCurrentUser()
+                .orElseThrow(() -> new EntityNotFoundException("Can't get current user"));
+    }
+}
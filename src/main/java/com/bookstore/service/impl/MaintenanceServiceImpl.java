@@ -0,0 +1,29 @@
+package com.bookstore.service.impl;
+
+import com.bookstore.dto.maintenance.PurgeProgressDto;
+import com.bookstore.dto.maintenance.PurgeTableProgressDto;
+import com.bookstore.maintenance.SoftDeletePurgeProgress;
+import com.bookstore.service.MaintenanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class MaintenanceServiceImpl implements MaintenanceService {
+    private final SoftDeletePurgeProgress purgeProgress;
+
+    @Override
+    public PurgeProgressDto getPurgeProgress() {
+        return new PurgeProgressDto()
+                .setRunning(purgeProgress.isRunning())
+                .setLastRunStartedAt(purgeProgress.getLastRunStartedAt())
+                .setLastRunFinishedAt(purgeProgress.getLastRunFinishedAt())
+                .setTables(purgeProgress.getTables().entrySet().stream()
+                        .map(entry -> new PurgeTableProgressDto()
+                                .setTable(entry.getKey().getTableName())
+                                .setPurged(entry.getValue().getPurged())
+                                .setBatches(entry.getValue().getBatches())
+                                .setLastPurgedId(entry.getValue().getLastId()))
+                        .toList());
+    }
+}
@@ -1,5 +1,7 @@
 package com.bookstore.service.impl;
 
+import com.bookstore.dto.order.OrderBulkStatusUpdateRequestDto;
+import com.bookstore.dto.order.OrderBulkStatusUpdateResponseDto;
 import com.bookstore.dto.order.OrderRequestDto;
 import com.bookstore.dto.order.OrderResponseDto;
 import com.bookstore.dto.order.OrderUpdateRequestDto;
@@ -13,28 +15,48 @@ import com.bookstore.model.ShoppingCart;
 import com.bookstore.model.Status;
 import com.bookstore.model.User;
 import com.bookstore.repository.order.OrderRepository;
+import com.bookstore.repository.orderitem.OrderItemRepository;
 import com.bookstore.repository.shoppingcart.ShoppingCartRepository;
+import com.bookstore.sales.OrderPlacedEvent;
+import com.bookstore.sales.OrderStatusChangedEvent;
+import com.bookstore.service.InventoryService;
 import com.bookstore.service.OrderService;
 import com.bookstore.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
+@Timed(value = "bookstore.service", histogram = true)
 public class OrderServiceImpl implements OrderService {
     private final ShoppingCartRepository shoppingCartRepository;
     private final UserService userService;
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final OrderMapper orderMapper;
     private final OrderItemMapper orderItemMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InventoryService inventoryService;
+
+    @Value("${orders.partitioning.hot-months:3}")
+    private int hotMonths;
 
     @Override
+    @Transactional
     public OrderResponseDto create(OrderRequestDto orderRequestDto) {
         ShoppingCart shoppingCart = getShoppingCartForCurrentUser();
 
@@ -42,6 +64,7 @@ public class OrderServiceImpl implements OrderService {
         order.setShippingAddress(orderRequestDto.getShippingAddress());
         order.setUser(shoppingCart.getUser());
         order.setStatus(Status.PENDING);
+        order.setOrderDate(LocalDateTime.now());
 
         Set<OrderItem> orderItems = shoppingCart.getCartItems().stream()
                 .map(cartItem -> {
@@ -49,6 +72,7 @@ public class OrderServiceImpl implements OrderService {
                     orderItem.setBook(cartItem.getBook());
                     orderItem.setQuantity(cartItem.getQuantity());
                     orderItem.setOrder(order);
+                    orderItem.setOrderDate(order.getOrderDate());
                     orderItem.setPrice(cartItem.getBook().getPrice()
                             .multiply(new BigDecimal(cartItem.getQuantity())));
                     return orderItem;
@@ -56,16 +80,18 @@ public class OrderServiceImpl implements OrderService {
                 .collect(Collectors.toSet());
 
         order.setOrderItems(orderItems);
-        order.setOrderDate(LocalDateTime.now());
-        BigDecimal total = orderItems.stream()
-                .map(orderItem -> orderItem.getBook().getPrice()
-                        .multiply(new BigDecimal(orderItem.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        order.setTotal(total);
-        return orderMapper.toDto(orderRepository.save(order));
+        order.setTotal(calculateTotal(orderItems));
+        Order savedOrder = orderRepository.save(order);
+        Map<Long, Integer> quantities = orderItems.stream()
+                .collect(Collectors.toMap(orderItem -> orderItem.getBook().getId(),
+                        OrderItem::getQuantity, Integer::sum));
+        inventoryService.takeStock(shoppingCart.getUser().getId(), quantities);
+        eventPublisher.publishEvent(OrderPlacedEvent.from(order));
+        return orderMapper.toDto(savedOrder);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderResponseDto> findAllOrders(Pageable pageable) {
         return orderRepository
                 .findAllOrders(pageable)
@@ -74,16 +100,77 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<OrderResponseDto> findRecentOrders(Pageable pageable) {
+        LocalDateTime since = LocalDate.now().withDayOfMonth(1)
+                .minusMonths(Math.max(hotMonths - 1, 0))
+                .atStartOfDay();
+        List<Order> orders = orderRepository.findRecentOrdersByUserId(getCurrentUser().getId(),
+                since, pageable);
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository
+                .findAllByOrderIdsSince(orders.stream().map(Order::getId).toList(), since)
+                .stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+        return orders.stream()
+                .map(order -> orderMapper.toDto(order,
+                        itemsByOrderId.getOrDefault(order.getId(), List.of())))
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public OrderResponseDto updateOrderStatus(Long orderId, OrderUpdateRequestDto orderDto) {
         Order orderFromDb = orderRepository.findById(orderId).orElseThrow(
                 () -> new EntityNotFoundException("Can't find order by id " + orderId));
         Order model = orderMapper.toModel(orderDto);
+        Status previousStatus = orderFromDb.getStatus();
         orderFromDb.setStatus(model.getStatus());
         orderRepository.save(orderFromDb);
+        if (model.getStatus() != null && model.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                    model.getStatus(), 1, LocalDateTime.now()));
+        }
         return orderMapper.toDto(orderFromDb);
     }
 
     @Override
+    @Transactional
+    public OrderBulkStatusUpdateResponseDto updateOrderStatuses(
+            OrderBulkStatusUpdateRequestDto requestDto) {
+        Status status = Status.valueOf(requestDto.getStatus());
+        Set<Status> allowedStatuses = status.getAllowedPreviousStatuses();
+        int updated = 0;
+        int skipped = 0;
+        Set<Long> ids = requestDto.getIds();
+        if (ids != null && !ids.isEmpty()) {
+            if (!allowedStatuses.isEmpty()) {
+                updated = orderRepository.updateStatusByIds(ids, allowedStatuses, status);
+            }
+            skipped = ids.size() - updated;
+        } else {
+            Status currentStatus = Status.valueOf(requestDto.getCurrentStatus());
+            LocalDateTime placedBefore = Optional.ofNullable(requestDto.getPlacedBefore())
+                    .orElseGet(LocalDateTime::now);
+            if (allowedStatuses.contains(currentStatus)) {
+                updated = orderRepository
+                        .updateStatusByFilter(currentStatus, placedBefore, status);
+            }
+        }
+        if (updated > 0) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                    status, updated, LocalDateTime.now()));
+        }
+        return new OrderBulkStatusUpdateResponseDto()
+                .setStatus(status.name())
+                .setUpdated(updated)
+                .setSkipped(skipped);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Set<OrderItemResponseDto> findAllOrderItems(Long orderId) {
         Order order = orderRepository
                 .findById(orderId)
@@ -95,6 +182,7 @@ public class OrderServiceImpl implements OrderService {
                 .collect(Collectors.toSet());
     }
 
+    @Transactional(readOnly = true)
     public OrderItemResponseDto findOrderItemById(Long orderId, Long itemId) {
         Order order = orderRepository
                 .findById(orderId)
@@ -110,6 +198,12 @@ public class OrderServiceImpl implements OrderService {
                                 + "item with id " + itemId + " in order with id " + orderId));
     }
 
+    static BigDecimal calculateTotal(Collection<OrderItem> orderItems) {
+        return orderItems.stream()
+                .map(OrderItem::getPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
     private User getCurrentUser() {
         return userService
                 .getCurrentUser()
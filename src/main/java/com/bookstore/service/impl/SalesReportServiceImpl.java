@@ -0,0 +1,52 @@
+package com.bookstore.service.impl;
+
+import com.bookstore.dto.sales.BookSalesDto;
+import com.bookstore.dto.sales.CategorySalesDto;
+import com.bookstore.dto.sales.DailySalesDto;
+import com.bookstore.mapper.SalesMapper;
+import com.bookstore.repository.sales.BookSalesRepository;
+import com.bookstore.repository.sales.CategorySalesRepository;
+import com.bookstore.repository.sales.DailySalesRepository;
+import com.bookstore.service.SalesReportService;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SalesReportServiceImpl implements SalesReportService {
+    private final BookSalesRepository bookSalesRepository;
+    private final CategorySalesRepository categorySalesRepository;
+    private final DailySalesRepository dailySalesRepository;
+    private final SalesMapper salesMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookSalesDto> findBookSales(Pageable pageable) {
+        return bookSalesRepository.findAll(pageable)
+                .stream()
+                .map(salesMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategorySalesDto> findCategorySales(Pageable pageable) {
+        return categorySalesRepository.findAll(pageable)
+                .stream()
+                .map(salesMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailySalesDto> findDailySales(LocalDate from, LocalDate to) {
+        return dailySalesRepository.findAllBySalesDateBetweenOrderBySalesDate(from, to)
+                .stream()
+                .map(salesMapper::toDto)
+                .toList();
+    }
+}
@@ -15,12 +15,15 @@ import com.bookstore.repository.cartitem.CartItemRepository;
 import com.bookstore.repository.shoppingcart.ShoppingCartRepository;
 import com.bookstore.service.ShoppingCartService;
 import com.bookstore.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "bookstore.service", histogram = true)
 public class ShoppingCartServiceImpl implements ShoppingCartService {
     private final BookRepository bookRepository;
     private final ShoppingCartRepository shoppingCartRepository;
@@ -30,6 +33,7 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     private final CartItemMapper cartItemMapper;
 
     @Override
+    @Transactional(readOnly = true)
     public List<ShoppingCartDto> findAll() {
         return shoppingCartRepository
                 .findAll()
@@ -39,6 +43,7 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     }
 
     @Override
+    @Transactional
     public ShoppingCartDto addItemToCart(Long bookId, int quantity) {
         Book book = bookRepository
                 .findBookById(bookId)
@@ -48,7 +53,7 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
         CartItem cartItem = new CartItem();
         cartItem.setBook(book);
         cartItem.setQuantity(quantity);
-        ShoppingCart shoppingCart = getShoppingCartForCurrentUser();
+        ShoppingCart shoppingCart = getShoppingCartForUpdate();
 
         cartItem.setShoppingCart(shoppingCart);
         shoppingCart.getCartItems().add(cartItem);
@@ -56,8 +61,9 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     }
 
     @Override
+    @Transactional
     public void deleteCartItemById(Long cartItemId) {
-        ShoppingCart shoppingCart = getShoppingCartForCurrentUser();
+        ShoppingCart shoppingCart = getShoppingCartForUpdate();
 
         CartItem cartItem = shoppingCart.getCartItems()
                 .stream()
@@ -70,13 +76,25 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ShoppingCartDto findAllByUser() {
         return shoppingCartMapper.toDto(getShoppingCartForCurrentUser());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public String getVersionTag() {
+        User currentUser = getCurrentUser();
+        return shoppingCartRepository
+                .findVersionTagById(currentUser.getId())
+                .orElseThrow(() -> new EntityNotFoundException("Can't "
+                + "get shopping cart with id " + currentUser.getId()));
+    }
+
+    @Override
+    @Transactional
     public CartItemDto updateQuantity(Long cartItemId, CartItemUpdateDto cartItemUpdateDto) {
-        ShoppingCart shoppingCart = getShoppingCartForCurrentUser();
+        ShoppingCart shoppingCart = getShoppingCartForUpdate();
 
         CartItem cartItem = shoppingCart.getCartItems()
                 .stream()
@@ -103,4 +121,13 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
                 .orElseThrow(() -> new EntityNotFoundException("Can't "
                 + "get shopping cart with id " + currentUser.getId()));
     }
+
+    private ShoppingCart getShoppingCartForUpdate() {
+        User currentUser = getCurrentUser();
+        return shoppingCartRepository
+                .lockById(currentUser.getId())
+                .flatMap(cart -> shoppingCartRepository.findById(cart.getId()))
+                .orElseThrow(() -> new EntityNotFoundException("Can't "
+                + "get shopping cart with id " + currentUser.getId()));
+    }
 }
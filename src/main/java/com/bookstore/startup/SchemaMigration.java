@@ -0,0 +1,37 @@
+package com.bookstore.startup;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+public final class SchemaMigration {
+    public static final String COMMAND = "migrate";
+
+    private SchemaMigration() {
+    }
+
+    public static boolean isRequested(String[] args) {
+        return args.length > 0 && COMMAND.equals(args[0]);
+    }
+
+    public static void run(String[] args) {
+        if (AotDetector.useGeneratedArtifacts()) {
+            throw new IllegalStateException("The migrate command needs the JVM image, "
+                    + "native images apply migrations at boot");
+        }
+        String[] migrationArgs = Stream.concat(
+                        Arrays.stream(args).skip(1),
+                        Stream.of("--spring.liquibase.enabled=true"))
+                .toArray(String[]::new);
+        System.exit(SpringApplication.exit(new SpringApplicationBuilder(SchemaMigration.class)
+                .web(WebApplicationType.NONE)
+                .run(migrationArgs)));
+    }
+}
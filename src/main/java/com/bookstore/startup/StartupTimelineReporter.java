@@ -0,0 +1,60 @@
+package com.bookstore.startup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class StartupTimelineReporter {
+    public static final int BUFFER_CAPACITY = 4096;
+    static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+    private static final String BEAN_NAME = "beanName";
+
+    private final int slowestBeans;
+
+    public StartupTimelineReporter(
+            @Value("${startup.timeline.slowest-beans:10}") int slowestBeans) {
+        this.slowestBeans = slowestBeans;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        log.info("Application ready in {} ms", event.getTimeTaken().toMillis());
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (slowestBeans > 0 && startup instanceof BufferingApplicationStartup buffering) {
+            slowestBeans(buffering.getBufferedTimeline()).forEach(bean ->
+                    log.info("Bean {} instantiated in {} ms", bean.name(), bean.millis()));
+        }
+    }
+
+    List<TimedBean> slowestBeans(StartupTimeline timeline) {
+        return timeline.getEvents().stream()
+                .filter(event -> BEAN_INSTANTIATION.equals(event.getStartupStep().getName()))
+                .map(event -> new TimedBean(beanName(event.getStartupStep()),
+                        event.getDuration().toMillis()))
+                .sorted(Comparator.comparingLong(TimedBean::millis).reversed())
+                .limit(slowestBeans)
+                .toList();
+    }
+
+    private static String beanName(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> BEAN_NAME.equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse(step.getName());
+    }
+
+    record TimedBean(String name, long millis) {
+    }
+}
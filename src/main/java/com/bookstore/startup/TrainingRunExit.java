@@ -0,0 +1,19 @@
+package com.bookstore.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "startup.training-run", havingValue = "true")
+public class TrainingRunExit {
+    @EventListener(ApplicationStartedEvent.class)
+    public void onApplicationStarted(ApplicationStartedEvent event) {
+        log.info("Training run finished in {} ms, exiting", event.getTimeTaken().toMillis());
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
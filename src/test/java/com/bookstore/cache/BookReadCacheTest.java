@@ -0,0 +1,191 @@
+package com.bookstore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bookstore.dto.book.BookDto;
+import com.bookstore.exception.CacheLoadTimeoutException;
+import com.bookstore.exception.EntityNotFoundException;
+import com.bookstore.mapper.BookMapper;
+import com.bookstore.model.Book;
+import com.bookstore.repository.book.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class BookReadCacheTest {
+    private static final Long BOOK_ID = 42L;
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private BookMapper bookMapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Verify get() method runs one loader for concurrent misses on the same id")
+    void get_ConcurrentMisses_ShouldLoadOnce() throws Exception {
+        BookReadCache cache = cache(true, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        Book book = book();
+        BookDto bookDto = new BookDto().setId(BOOK_ID);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        when(bookRepository.findBookById(BOOK_ID)).thenAnswer(invocation -> {
+            loaderStarted.countDown();
+            releaseLoader.await(5, TimeUnit.SECONDS);
+            return Optional.of(book);
+        });
+        when(bookMapper.toDto(book)).thenReturn(bookDto);
+
+        List<Future<BookDto>> callers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            callers.add(executor.submit(() -> cache.get(BOOK_ID)));
+        }
+        loaderStarted.await(5, TimeUnit.SECONDS);
+        releaseLoader.countDown();
+
+        for (Future<BookDto> caller : callers) {
+            assertSame(bookDto, caller.get(5, TimeUnit.SECONDS));
+        }
+        verify(bookRepository).findBookById(BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("Verify get() method gives up waiting on a slow loader")
+    void get_SlowLoader_ShouldTimeOut() {
+        BookReadCache cache = cache(true, Duration.ofMinutes(1), Duration.ofMillis(50));
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        when(bookRepository.findBookById(BOOK_ID)).thenAnswer(invocation -> {
+            releaseLoader.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        assertThrows(CacheLoadTimeoutException.class, () -> cache.get(BOOK_ID));
+        releaseLoader.countDown();
+    }
+
+    @Test
+    @DisplayName("Verify get() method does not cache missing books")
+    void get_MissingBook_ShouldThrowAndRetry() throws InterruptedException {
+        BookReadCache cache = cache(true, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        Book book = book();
+        BookDto bookDto = new BookDto().setId(BOOK_ID);
+        when(bookRepository.findBookById(BOOK_ID)).thenReturn(Optional.empty())
+                .thenReturn(Optional.of(book));
+        when(bookMapper.toDto(book)).thenReturn(bookDto);
+
+        assertThrows(EntityNotFoundException.class, () -> cache.get(BOOK_ID));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        BookDto actual = null;
+        while (actual == null && System.nanoTime() < deadline) {
+            try {
+                actual = cache.get(BOOK_ID);
+            } catch (EntityNotFoundException e) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+        }
+        assertSame(bookDto, actual);
+        verify(bookRepository, times(2)).findBookById(BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("Verify get() method serves the cached book while refreshing it ahead of expiry")
+    void get_AfterRefreshInterval_ShouldRefreshInBackground() throws Exception {
+        BookReadCache cache = cache(true, Duration.ofMillis(100), Duration.ofSeconds(5));
+        Book book = book();
+        BookDto stale = new BookDto().setId(BOOK_ID).setTitle("Stale");
+        BookDto fresh = new BookDto().setId(BOOK_ID).setTitle("Fresh");
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        when(bookRepository.findBookById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookMapper.toDto(book)).thenReturn(stale).thenAnswer(invocation -> {
+            releaseRefresh.await(5, TimeUnit.SECONDS);
+            return fresh;
+        });
+
+        assertSame(stale, cache.get(BOOK_ID));
+        TimeUnit.MILLISECONDS.sleep(150);
+        assertSame(stale, cache.get(BOOK_ID));
+        assertSame(stale, cache.get(BOOK_ID));
+        releaseRefresh.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.get(BOOK_ID) != fresh && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertSame(fresh, cache.get(BOOK_ID));
+        verify(bookRepository, times(2)).findBookById(BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("Verify onCatalogChanged() method drops the changed book")
+    void onCatalogChanged_ShouldInvalidateBook() {
+        BookReadCache cache = cache(true, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        Book book = book();
+        when(bookRepository.findBookById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookMapper.toDto(book)).thenReturn(new BookDto().setId(BOOK_ID));
+
+        cache.get(BOOK_ID);
+        cache.get(BOOK_ID);
+        cache.onCatalogChanged(CatalogChangedEvent.book(BOOK_ID));
+        cache.get(BOOK_ID);
+
+        verify(bookRepository, times(2)).findBookById(BOOK_ID);
+        assertEquals(1, registry.get("cache.gets").tag("cache", "books")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Verify get() method loads every time when the cache is disabled")
+    void get_Disabled_ShouldAlwaysLoad() {
+        BookReadCache cache = cache(false, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        Book book = book();
+        when(bookRepository.findBookById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookMapper.toDto(book)).thenReturn(new BookDto().setId(BOOK_ID));
+
+        cache.get(BOOK_ID);
+        cache.get(BOOK_ID);
+
+        verify(bookRepository, times(2)).findBookById(BOOK_ID);
+    }
+
+    private BookReadCache cache(boolean enabled, Duration refreshAfterWrite,
+                                Duration loadTimeout) {
+        return new BookReadCache(bookRepository, bookMapper, transactionManager, registry,
+                executor, enabled, 100, Duration.ofMinutes(5), refreshAfterWrite, loadTimeout);
+    }
+
+    private static Book book() {
+        Book book = new Book();
+        book.setId(BOOK_ID);
+        return book;
+    }
+}
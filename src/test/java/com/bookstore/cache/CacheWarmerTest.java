@@ -0,0 +1,120 @@
+package com.bookstore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bookstore.catalog.BookJsonCache;
+import com.bookstore.catalog.CatalogIndex;
+import com.bookstore.model.Category;
+import com.bookstore.repository.category.CategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PopularityTracker tracker = new PopularityTracker(100);
+    @Mock
+    private PopularitySnapshotStore snapshotStore;
+    @Mock
+    private BookReadCache bookReadCache;
+    @Mock
+    private CatalogIndex catalogIndex;
+    @Mock
+    private BookJsonCache bookJsonCache;
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Test
+    @DisplayName("Verify warmUp() method preloads popular books and categories in chunks")
+    void warmUp_ShouldPreloadSnapshotInChunks() {
+        when(snapshotStore.load(CatalogEntity.BOOK, 100))
+                .thenReturn(Map.of(1L, 5L, 2L, 4L, 3L, 3L));
+        when(snapshotStore.load(CatalogEntity.CATEGORY, 10)).thenReturn(Map.of(10L, 9L));
+        when(bookReadCache.preload(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).size());
+        when(categoryRepository.findAllById(any())).thenReturn(List.of(new Category()));
+
+        warmer(Duration.ofSeconds(10)).warmUp();
+
+        verify(bookReadCache, times(2)).preload(anyCollection());
+        assertEquals(Map.of(1L, 5L, 2L, 4L, 3L, 3L), tracker.topBooks(10));
+        assertEquals(1.0, registry.get("bookstore.cache.warmup.progress").gauge().value());
+        assertEquals(3.0, registry.get("bookstore.cache.warmup.loaded")
+                .tag("entity", "book").gauge().value());
+        assertEquals(1.0, registry.get("bookstore.cache.warmup.loaded")
+                .tag("entity", "category").gauge().value());
+        assertEquals(1, registry.get("bookstore.cache.warmup.duration").timer().count());
+    }
+
+    @Test
+    @DisplayName("Verify warmUp() method serializes catalog JSON once the index is ready")
+    void warmUp_IndexReady_ShouldWarmCatalogJson() {
+        when(snapshotStore.load(CatalogEntity.BOOK, 100)).thenReturn(Map.of(1L, 5L, 2L, 4L));
+        when(snapshotStore.load(CatalogEntity.CATEGORY, 10)).thenReturn(Map.of());
+        when(catalogIndex.isReady()).thenReturn(true);
+        when(bookJsonCache.find(1L)).thenReturn(Optional.of(ByteBuffer.allocate(1)));
+        when(bookJsonCache.find(2L)).thenReturn(Optional.empty());
+
+        warmer(Duration.ofSeconds(10)).warmUp();
+
+        verify(bookReadCache, never()).preload(anyCollection());
+        assertEquals(1.0, registry.get("bookstore.cache.warmup.loaded")
+                .tag("entity", "book").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Verify warmUp() method gives up after the timeout and reports partial progress")
+    void warmUp_Timeout_ShouldReportPartialProgress() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(snapshotStore.load(CatalogEntity.BOOK, 100)).thenReturn(Map.of(1L, 5L));
+        when(snapshotStore.load(CatalogEntity.CATEGORY, 10)).thenReturn(Map.of());
+        when(bookReadCache.preload(anyCollection())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return 1;
+        });
+
+        try {
+            warmer(Duration.ofMillis(100)).warmUp();
+        } finally {
+            release.countDown();
+        }
+
+        assertEquals(0.0, registry.get("bookstore.cache.warmup.progress").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Verify warmUp() method lets startup continue when the snapshot can't be read")
+    void warmUp_StoreFails_ShouldContinue() {
+        when(snapshotStore.load(CatalogEntity.BOOK, 100))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        warmer(Duration.ofSeconds(10)).warmUp();
+
+        verify(bookReadCache, never()).preload(anyCollection());
+        assertEquals(1.0, registry.get("bookstore.cache.warmup.progress").gauge().value());
+    }
+
+    private CacheWarmer warmer(Duration timeout) {
+        return new CacheWarmer(snapshotStore, tracker, bookReadCache, catalogIndex,
+                bookJsonCache, categoryRepository, registry, 100, 10, 2, 2, timeout);
+    }
+}
@@ -0,0 +1,78 @@
+package com.bookstore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogInvalidationBusTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CatalogInvalidationBus(jdbcTemplate, dataSource, eventPublisher, 100, 10);
+    }
+
+    @Test
+    @DisplayName("Verify onCatalogChanged() method sends the change over NOTIFY")
+    void onCatalogChanged_ShouldNotifyChannel() {
+        bus.onCatalogChanged(CatalogChangedEvent.book(42L));
+
+        verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(RowCallbackHandler.class),
+                eq(CatalogInvalidationBus.CHANNEL), endsWith(":BOOK:42"));
+    }
+
+    @Test
+    @DisplayName("Verify decode() method reads changes published by encode()")
+    void decode_ShouldReadEncodedChanges() {
+        assertEquals(Optional.of(CatalogChangedEvent.book(42L)),
+                CatalogInvalidationBus.decode("node-b", CatalogInvalidationBus.encode(
+                        "node-a", CatalogChangedEvent.book(42L))));
+        assertEquals(Optional.of(CatalogChangedEvent.all(CatalogEntity.CATEGORY)),
+                CatalogInvalidationBus.decode("node-b", CatalogInvalidationBus.encode(
+                        "node-a", CatalogChangedEvent.all(CatalogEntity.CATEGORY))));
+    }
+
+    @Test
+    @DisplayName("Verify decode() method skips own and malformed notifications")
+    void decode_OwnOrMalformed_ShouldBeEmpty() {
+        assertTrue(CatalogInvalidationBus.decode("node-a", "node-a:BOOK:42").isEmpty());
+        assertTrue(CatalogInvalidationBus.decode("node-a", "node-b:AUTHOR:42").isEmpty());
+        assertTrue(CatalogInvalidationBus.decode("node-a", "node-b:BOOK:x").isEmpty());
+        assertTrue(CatalogInvalidationBus.decode("node-a", "garbage").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify onNotification() method republishes changes from other nodes locally")
+    void onNotification_ShouldPublishRemoteChange() {
+        bus.onNotification("other-node:CATEGORY:7");
+        bus.onNotification("other-node:CATEGORY");
+
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.category(7L));
+        verify(eventPublisher, never()).publishEvent(CatalogChangedEvent.all(
+                CatalogEntity.CATEGORY));
+    }
+}
@@ -0,0 +1,87 @@
+package com.bookstore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class CatalogInvalidationIntegrationTest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            "postgres:15");
+
+    private final BlockingQueue<Object> firstNodeEvents = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Object> secondNodeEvents = new LinkedBlockingQueue<>();
+    private JdbcTemplate jdbcTemplate;
+    private CatalogInvalidationBus firstNode;
+    private CatalogInvalidationBus secondNode;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        DataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        firstNode = new CatalogInvalidationBus(jdbcTemplate, dataSource, firstNodeEvents::add,
+                200, 100);
+        secondNode = new CatalogInvalidationBus(jdbcTemplate, dataSource, secondNodeEvents::add,
+                200, 100);
+        firstNode.start();
+        secondNode.start();
+        awaitListeners(2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        firstNode.stop();
+        secondNode.stop();
+    }
+
+    @Test
+    @DisplayName("Verify a change on one node is evicted on the other node only")
+    void onCatalogChanged_ShouldReachOtherNodes() throws InterruptedException {
+        firstNode.onCatalogChanged(CatalogChangedEvent.book(42L));
+
+        assertEquals(CatalogChangedEvent.book(42L), secondNodeEvents.poll(5, TimeUnit.SECONDS));
+        assertNull(firstNodeEvents.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Verify a node evicts everything after its subscription was dropped")
+    void listen_AfterReconnect_ShouldEvictEverything() throws InterruptedException {
+        jdbcTemplate.queryForList("SELECT pg_terminate_backend(pid) FROM pg_stat_activity"
+                + " WHERE pid <> pg_backend_pid() AND datname = current_database()");
+
+        assertEquals(Set.of(CatalogChangedEvent.all(CatalogEntity.BOOK),
+                        CatalogChangedEvent.all(CatalogEntity.CATEGORY)),
+                Set.of(secondNodeEvents.poll(10, TimeUnit.SECONDS),
+                        secondNodeEvents.poll(1, TimeUnit.SECONDS)));
+    }
+
+    private void awaitListeners(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (listeners() < expected && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        TimeUnit.MILLISECONDS.sleep(200);
+    }
+
+    private int listeners() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM pg_stat_activity"
+                + " WHERE pid <> pg_backend_pid() AND datname = current_database()",
+                Integer.class);
+    }
+}
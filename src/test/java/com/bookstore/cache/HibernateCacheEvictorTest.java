@@ -0,0 +1,62 @@
+package com.bookstore.cache;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.bookstore.model.Book;
+import com.bookstore.model.Category;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HibernateCacheEvictorTest {
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private Cache cache;
+    @InjectMocks
+    private HibernateCacheEvictor hibernateCacheEvictor;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(cache.unwrap(Cache.class)).thenReturn(cache);
+    }
+
+    @Test
+    @DisplayName("Verify onCatalogChanged() method evicts a book and its categories")
+    void onCatalogChanged_Book_ShouldEvictBookAndCollection() {
+        hibernateCacheEvictor.onCatalogChanged(CatalogChangedEvent.book(42L));
+
+        verify(cache).evictEntityData(Book.class, 42L);
+        verify(cache).evictCollectionData(HibernateCacheEvictor.BOOK_CATEGORIES, 42L);
+    }
+
+    @Test
+    @DisplayName("Verify onCatalogChanged() method evicts a category and cached queries")
+    void onCatalogChanged_Category_ShouldEvictCategoryAndQueries() {
+        hibernateCacheEvictor.onCatalogChanged(CatalogChangedEvent.category(7L));
+
+        verify(cache).evictEntityData(Category.class, 7L);
+        verify(cache).evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("Verify onCatalogChanged() method evicts whole regions after a missed window")
+    void onCatalogChanged_All_ShouldEvictRegions() {
+        hibernateCacheEvictor.onCatalogChanged(CatalogChangedEvent.all(CatalogEntity.BOOK));
+
+        verify(cache).unwrap(Cache.class);
+        verify(cache).evictEntityData(Book.class);
+        verify(cache).evictCollectionData(HibernateCacheEvictor.BOOK_CATEGORIES);
+        verifyNoMoreInteractions(cache);
+    }
+}
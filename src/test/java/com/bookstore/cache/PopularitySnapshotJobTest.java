@@ -0,0 +1,68 @@
+package com.bookstore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.bookstore.repository.book.BookRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class PopularitySnapshotJobTest {
+    private final PopularityTracker tracker = new PopularityTracker(100);
+    @Mock
+    private PopularitySnapshotStore snapshotStore;
+    @Mock
+    private BookRepository bookRepository;
+    private PopularitySnapshotJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new PopularitySnapshotJob(tracker, snapshotStore, bookRepository, 2, 1);
+    }
+
+    @Test
+    @DisplayName("Verify snapshot() method saves top books and categories")
+    void snapshot_ShouldSaveTopBooksAndCategories() {
+        tracker.seed(Map.of(1L, 8L, 2L, 4L, 3L, 2L));
+        when(bookRepository.findCategoryIdsByBookIds(any())).thenReturn(List.of(
+                new Object[] {1L, 10L}, new Object[] {2L, 20L}, new Object[] {2L, 10L}));
+
+        job.snapshot();
+
+        verify(snapshotStore).replace(Map.of(
+                CatalogEntity.BOOK, Map.of(1L, 8L, 2L, 4L),
+                CatalogEntity.CATEGORY, Map.of(10L, 12L)));
+        assertEquals(Map.of(1L, 8L, 2L, 4L, 3L, 2L), tracker.topBooks(10));
+    }
+
+    @Test
+    @DisplayName("Verify snapshot() method skips saving when nothing was read")
+    void snapshot_NoHits_ShouldSkip() {
+        job.snapshot();
+
+        verifyNoInteractions(snapshotStore, bookRepository);
+    }
+
+    @Test
+    @DisplayName("Verify snapshot() method keeps hits when the snapshot can't be saved")
+    void snapshot_StoreFails_ShouldKeepHits() {
+        tracker.seed(Map.of(1L, 8L));
+        doThrow(new QueryTimeoutException("timeout")).when(snapshotStore).replace(any());
+
+        job.snapshot();
+
+        assertEquals(Map.of(1L, 8L), tracker.topBooks(10));
+    }
+}
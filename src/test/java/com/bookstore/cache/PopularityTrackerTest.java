@@ -0,0 +1,62 @@
+package com.bookstore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PopularityTrackerTest {
+    private final PopularityTracker tracker = new PopularityTracker(2);
+
+    @Test
+    @DisplayName("Verify topBooks() method returns the most read books first")
+    void topBooks_ShouldOrderByHits() {
+        record(1L, 2);
+        record(2L, 5);
+        record(3L, 1);
+
+        assertEquals(List.of(2L, 1L), List.copyOf(tracker.topBooks(2).keySet()));
+        assertEquals(5L, tracker.topBooks(2).get(2L));
+    }
+
+    @Test
+    @DisplayName("Verify decay() method halves scores and forgets cold books")
+    void decay_ShouldHalveScoresAndDropColdBooks() {
+        record(1L, 6);
+        record(2L, 1);
+
+        tracker.decay();
+
+        assertEquals(Map.of(1L, 3L), tracker.topBooks(10));
+    }
+
+    @Test
+    @DisplayName("Verify seed() method adds snapshot scores to live hits")
+    void seed_ShouldAddToHits() {
+        record(1L, 1);
+
+        tracker.seed(Map.of(1L, 4L, 2L, 2L));
+
+        assertEquals(Map.of(1L, 5L, 2L, 2L), tracker.topBooks(10));
+    }
+
+    @Test
+    @DisplayName("Verify recordBook() method stops tracking new books at the cap")
+    void recordBook_AtCap_ShouldSkipNewBooks() {
+        record(1L, 1);
+        record(2L, 1);
+
+        record(3L, 1);
+        record(1L, 1);
+
+        assertEquals(Map.of(1L, 2L, 2L, 1L), tracker.topBooks(10));
+    }
+
+    private void record(Long id, int hits) {
+        for (int i = 0; i < hits; i++) {
+            tracker.recordBook(id);
+        }
+    }
+}
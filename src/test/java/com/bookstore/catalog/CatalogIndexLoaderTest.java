@@ -0,0 +1,159 @@
+package com.bookstore.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bookstore.cache.CatalogChangedEvent;
+import com.bookstore.model.Book;
+import com.bookstore.model.Category;
+import com.bookstore.repository.book.BookRepository;
+import com.bookstore.repository.category.CategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogIndexLoaderTest {
+    private final CatalogIndex index = new CatalogIndex(1 << 16);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    @TempDir
+    private Path directory;
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Verify load() method scans the database and saves a snapshot without one")
+    void load_NoSnapshot_ShouldRebuildAndWriteSnapshot() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(7L);
+        when(resultSet.getLong(2)).thenReturn(3L);
+        when(resultSet.getLong("id")).thenReturn(7L);
+        when(resultSet.getString("title")).thenReturn("Dune");
+        when(resultSet.getString("author")).thenReturn("Frank Herbert");
+        when(resultSet.getString("isbn")).thenReturn("978-0441172719");
+        when(resultSet.getBigDecimal("price")).thenReturn(BigDecimal.TEN);
+        when(resultSet.getInt("stock")).thenReturn(3);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        CatalogIndexLoader loader = loader();
+        loader.load();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(7L), index.bookIdsInCategory(3L));
+        assertEquals(3, index.find(7L).orElseThrow().stock());
+        assertTrue(Files.exists(snapshotFile()));
+        assertEquals(1, registry.get("bookstore.catalog.index.load")
+                .tag("source", "database").timer().count());
+    }
+
+    @Test
+    @DisplayName("Verify load() method maps the snapshot and applies only later changes")
+    void load_FreshSnapshot_ShouldApplyChangesSinceVersion() throws IOException {
+        CatalogSnapshotFile.write(snapshotFile(), System.currentTimeMillis(), List.of(
+                CatalogIndexTest.entry(1L, "Frank Herbert", 3L),
+                CatalogIndexTest.entry(2L, "Frank Herbert", 3L))::forEach);
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM books"), anyMap(),
+                eq(Long.class))).thenReturn(List.of(1L, 5L));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(1L, 5L)))
+                .thenReturn(List.of(book(5L, 3L)));
+
+        loader().load();
+
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+        assertEquals(List.of(2L, 5L), index.bookIdsInCategory(3L));
+        assertEquals(1, registry.get("bookstore.catalog.index.load")
+                .tag("source", "snapshot").timer().count());
+    }
+
+    @Test
+    @DisplayName("Verify onCatalogChanged() method defers changes until the index is loaded")
+    void onCatalogChanged_BeforeLoad_ShouldApplyAfterLoad() throws IOException {
+        CatalogSnapshotFile.write(snapshotFile(), System.currentTimeMillis(), List.of(
+                CatalogIndexTest.entry(1L, "Frank Herbert", 3L))::forEach);
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(9L)))
+                .thenReturn(List.of(book(9L, 3L)));
+        CatalogIndexLoader loader = loader();
+
+        loader.onCatalogChanged(CatalogChangedEvent.book(9L));
+        verify(bookRepository, never()).findAllWithCategoriesByIdIn(any());
+        loader.load();
+
+        assertEquals(List.of(1L, 9L), index.bookIdsInCategory(3L));
+    }
+
+    @Test
+    @DisplayName("Verify onCatalogChanged() method drops deleted categories from the index")
+    void onCatalogChanged_DeletedCategory_ShouldRemoveCategory() throws IOException {
+        CatalogSnapshotFile.write(snapshotFile(), System.currentTimeMillis(), List.of(
+                CatalogIndexTest.entry(1L, "Frank Herbert", 3L))::forEach);
+        when(categoryRepository.findAllById(List.of(3L))).thenReturn(List.of());
+        CatalogIndexLoader loader = loader();
+        loader.load();
+
+        loader.onCatalogChanged(CatalogChangedEvent.category(3L));
+
+        assertTrue(index.bookIdsInCategory(3L).isEmpty());
+    }
+
+    private CatalogIndexLoader loader() {
+        when(jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP", Map.of(), Timestamp.class))
+                .thenReturn(new Timestamp(System.currentTimeMillis()));
+        return new CatalogIndexLoader(index, jdbcTemplate, bookRepository, categoryRepository,
+                transactionManager, registry, snapshotFile().toString(), Duration.ofDays(1),
+                Duration.ofMinutes(1));
+    }
+
+    private Path snapshotFile() {
+        return directory.resolve("catalog-index.snapshot");
+    }
+
+    private static Book book(Long id, Long categoryId) {
+        Category category = new Category();
+        category.setId(categoryId);
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle("Title " + id);
+        book.setAuthor("Frank Herbert");
+        book.setIsbn("isbn-" + id);
+        book.setPrice(BigDecimal.ONE);
+        book.setVersion(0L);
+        book.setCategories(Set.of(category));
+        return book;
+    }
+}
@@ -0,0 +1,70 @@
+package com.bookstore.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CatalogIndexTest {
+    private final CatalogIndex index = new CatalogIndex(1 << 16);
+
+    @Test
+    @DisplayName("Verify put() method moves a book between categories")
+    void put_ChangedCategories_ShouldMoveBook() {
+        index.put(entry(1L, "Author", 10L, 20L));
+        index.put(entry(2L, "Author", 10L));
+
+        index.put(entry(1L, "Author", 30L));
+
+        assertEquals(List.of(2L), index.bookIdsInCategory(10L));
+        assertTrue(index.bookIdsInCategory(20L).isEmpty());
+        assertEquals(List.of(1L), index.bookIdsInCategory(30L));
+    }
+
+    @Test
+    @DisplayName("Verify findInCategory() method reads books back from the off-heap store")
+    void findInCategory_ShouldReturnStoredBooks() {
+        index.put(entry(1L, "Orwell", 10L));
+        index.put(entry(2L, "Huxley", 10L));
+
+        List<CatalogEntry> books = index.findInCategory(10L);
+
+        assertEquals(List.of(1L, 2L), books.stream().map(CatalogEntry::id).toList());
+        assertEquals("Huxley", books.get(1).author());
+        assertEquals(new BigDecimal("19.99"), books.get(1).price());
+    }
+
+    @Test
+    @DisplayName("Verify replaceAll() method drops books missing from the new catalog")
+    void replaceAll_ShouldDropStaleBooks() {
+        index.put(entry(1L, "Author", 10L));
+        index.put(entry(2L, "Author", 10L));
+
+        index.replaceAll(List.of(entry(2L, "Author", 10L), entry(3L, "Author", 10L))::forEach);
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(2L, 3L), index.bookIdsInCategory(10L));
+    }
+
+    @Test
+    @DisplayName("Verify remove() and removeCategory() methods unlink books")
+    void remove_ShouldUnlinkBook() {
+        index.put(entry(1L, "Author", 10L, 20L));
+        index.put(entry(2L, "Author", 20L));
+
+        index.remove(1L);
+        index.removeCategory(20L);
+
+        assertTrue(index.bookIdsInCategory(10L).isEmpty());
+        assertTrue(index.bookIdsInCategory(20L).isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    static CatalogEntry entry(long id, String author, long... categoryIds) {
+        return new CatalogEntry(id, "Title " + id, author, "978-0-00-000000-" + id,
+                BigDecimal.valueOf(1999, 2), null, null, 5, 0L, categoryIds);
+    }
+}
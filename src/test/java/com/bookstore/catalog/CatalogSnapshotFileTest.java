@@ -0,0 +1,68 @@
+package com.bookstore.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CatalogSnapshotFileTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Verify read() method restores what write() method saved")
+    void read_ShouldRoundTripEntries() throws IOException {
+        Path file = directory.resolve("snapshots/catalog.snapshot");
+        List<CatalogEntry> entries = List.of(
+                new CatalogEntry(1L, "Dune", "Frank Herbert", "978-0441172719",
+                        new BigDecimal("12.50"), "Desert planet", "dune.png", 4, 2L,
+                        new long[] {3L, 4L}),
+                new CatalogEntry(2L, "Kafka am Strand", "Haruki Murakami", "978-3832180",
+                        new BigDecimal("9.99"), null, null, 0, 0L, new long[0]),
+                new CatalogEntry(3L, "Children of Dune", "Frank Herbert", "978-0593098240",
+                        new BigDecimal("100"), "Sequel", null, 12, 5L, new long[] {3L}));
+
+        CatalogSnapshotFile.write(file, 1_700_000_000_000L, entries::forEach);
+        List<CatalogEntry> restored = new ArrayList<>();
+        long version = CatalogSnapshotFile.read(file, restored::add);
+
+        assertEquals(1_700_000_000_000L, version);
+        assertEquals(3, restored.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(entries.get(i).id(), restored.get(i).id());
+            assertEquals(entries.get(i).title(), restored.get(i).title());
+            assertEquals(entries.get(i).author(), restored.get(i).author());
+            assertEquals(entries.get(i).isbn(), restored.get(i).isbn());
+            assertEquals(entries.get(i).price(), restored.get(i).price());
+            assertEquals(entries.get(i).description(), restored.get(i).description());
+            assertEquals(entries.get(i).coverImage(), restored.get(i).coverImage());
+            assertEquals(entries.get(i).stock(), restored.get(i).stock());
+            assertEquals(entries.get(i).version(), restored.get(i).version());
+            assertArrayEquals(entries.get(i).categoryIds(), restored.get(i).categoryIds());
+        }
+    }
+
+    @Test
+    @DisplayName("Verify read() method rejects a snapshot with a corrupted body")
+    void read_Corrupted_ShouldThrow() throws IOException {
+        Path file = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(file, 1L, List.of(new CatalogEntry(1L, "Dune",
+                "Frank Herbert", "978-0441172719", BigDecimal.TEN, null, null, 1, 0L,
+                new long[] {3L}))::forEach);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[30] ^= 0x7f;
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> CatalogSnapshotFile.read(file, entry -> {
+        }));
+    }
+}
@@ -0,0 +1,170 @@
+package com.bookstore.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OffHeapCatalogStoreTest {
+    private final OffHeapCatalogStore store = new OffHeapCatalogStore(4096);
+
+    @Test
+    @DisplayName("Verify find() method returns every field written by put() method")
+    void find_ShouldReturnStoredFields() {
+        CatalogEntry entry = new CatalogEntry(1L, "Dune", "Frank Herbert", "978-0441172719",
+                new BigDecimal("12.50"), "Desert planet", null, 4, 7L, new long[] {3L, 4L});
+
+        store.put(entry);
+        CatalogEntry stored = store.find(1L).orElseThrow();
+
+        assertEquals("Dune", stored.title());
+        assertEquals("Frank Herbert", stored.author());
+        assertEquals("978-0441172719", stored.isbn());
+        assertEquals(new BigDecimal("12.50"), stored.price());
+        assertEquals("Desert planet", stored.description());
+        assertNull(stored.coverImage());
+        assertEquals(4, stored.stock());
+        assertArrayEquals(new long[] {3L, 4L}, stored.categoryIds());
+        assertTrue(store.find(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify offHeapBytes() method counts 100 bytes per record slot")
+    void offHeapBytes_ShouldUseHundredByteRecords() {
+        OffHeapCatalogStore small = new OffHeapCatalogStore(1000);
+        for (long id = 1; id <= 10; id++) {
+            small.put(new CatalogEntry(id, null, null, null, BigDecimal.ONE, null, null, 1, 0L,
+                    new long[0]));
+        }
+
+        assertEquals(100, OffHeapCatalogStore.RECORD_BYTES);
+        assertEquals(2 * 1000, small.offHeapBytes());
+        small.put(new CatalogEntry(11L, null, null, null, BigDecimal.ONE, null, null, 1, 0L,
+                new long[0]));
+        assertEquals(3 * 1000, small.offHeapBytes());
+    }
+
+    @Test
+    @DisplayName("Verify put() method compacts the string arena once most of it is garbage")
+    void put_RepeatedUpdates_ShouldCompactArena() {
+        for (int version = 0; version < 200; version++) {
+            for (long id = 1; id <= 5; id++) {
+                store.put(entry(id, "Description v" + version + " ".repeat(100)));
+            }
+        }
+
+        assertEquals(5, store.size());
+        assertEquals("Description v199" + " ".repeat(100),
+                store.find(3L).orElseThrow().description());
+        assertTrue(store.wastedBytes() * 2 <= store.offHeapBytes());
+        assertTrue(store.offHeapBytes() < 16 * 4096);
+    }
+
+    @Test
+    @DisplayName("Verify remove() method frees the record slot for the next book")
+    void remove_ShouldReuseSlot() {
+        for (long id = 1; id <= 100; id++) {
+            store.put(entry(id, null));
+        }
+        final long offHeapBytes = store.offHeapBytes();
+
+        assertTrue(store.remove(50L));
+        assertFalse(store.remove(50L));
+        store.put(entry(101L, null));
+
+        assertTrue(store.find(50L).isEmpty());
+        assertEquals(100, store.size());
+        assertEquals(offHeapBytes, store.offHeapBytes());
+    }
+
+    @Test
+    @DisplayName("Verify removeOlderThan() method drops books not written in the generation")
+    void removeOlderThan_ShouldDropStaleBooks() {
+        store.put(entry(1L, null));
+        store.put(entry(2L, null));
+        int generation = store.beginGeneration();
+        store.put(entry(2L, null));
+        store.put(entry(3L, null));
+
+        store.removeOlderThan(generation);
+
+        List<Long> ids = new ArrayList<>();
+        store.forEach(entry -> ids.add(entry.id()));
+        assertEquals(List.of(2L, 3L), ids.stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Verify put() method rejects fields larger than a chunk")
+    void put_OversizedField_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> store.put(entry(1L, "x".repeat(5000))));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("Verify json() method serializes a book once and serves the stored bytes")
+    void json_ShouldSerializeOnce() {
+        store.put(entry(1L, "Description"));
+        AtomicInteger calls = new AtomicInteger();
+        Function<CatalogEntry, byte[]> serializer = entry -> {
+            calls.incrementAndGet();
+            return ("{\"id\":" + entry.id() + "}").getBytes(StandardCharsets.UTF_8);
+        };
+
+        assertEquals("{\"id\":1}", text(store.json(1L, serializer).orElseThrow()));
+        assertEquals("{\"id\":1}", text(store.json(1L, serializer).orElseThrow()));
+        assertEquals(1, calls.get());
+        assertTrue(store.json(2L, serializer).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify put() method drops the serialized JSON of the previous version")
+    void put_ShouldInvalidateJson() {
+        store.put(entry(1L, "Old"));
+        Function<CatalogEntry, byte[]> serializer = entry ->
+                entry.description().getBytes(StandardCharsets.UTF_8);
+        store.json(1L, serializer);
+
+        store.put(entry(1L, "New"));
+
+        assertEquals("New", text(store.json(1L, serializer).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Verify json() method does not attach bytes serialized from a stale version")
+    void json_ConcurrentPut_ShouldNotAttachStaleJson() {
+        store.put(entry(1L, "Old"));
+
+        String stale = text(store.json(1L, entry -> {
+            store.put(entry(1L, "New"));
+            return entry.description().getBytes(StandardCharsets.UTF_8);
+        }).orElseThrow());
+
+        assertEquals("Old", stale);
+        assertEquals("New", text(store.json(1L, entry ->
+                entry.description().getBytes(StandardCharsets.UTF_8)).orElseThrow()));
+    }
+
+    private static String text(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static CatalogEntry entry(long id, String description) {
+        return new CatalogEntry(id, "Title " + id, "Author", "isbn-" + id, BigDecimal.ONE,
+                description, null, 1, 0L, new long[] {1L});
+    }
+}
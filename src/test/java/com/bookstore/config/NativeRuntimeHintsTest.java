@@ -0,0 +1,46 @@
+package com.bookstore.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bookstore.dto.book.BookDto;
+import com.bookstore.mapper.impl.BookMapperImpl;
+import com.bookstore.model.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class NativeRuntimeHintsTest {
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Verify registerHints() method registers generated mappers and entities")
+    void registerHints_ShouldRegisterMappersAndEntities() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BookMapperImpl.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Book.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(BookDto.class, "getTitle")
+                .test(hints));
+    }
+
+    @Test
+    @DisplayName("Verify registerHints() method registers JJWT and Liquibase resources")
+    void registerHints_ShouldRegisterJwtAndChangelogResources() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(
+                        "io.jsonwebtoken.jackson.io.JacksonSerializer")).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/changelog/changes/01-create-books-table.yaml").test(hints));
+    }
+}
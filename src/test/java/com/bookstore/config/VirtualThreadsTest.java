@@ -0,0 +1,34 @@
+package com.bookstore.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+class VirtualThreadsTest {
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("Verify newExecutor() method runs tasks on named virtual threads")
+    void newExecutor_ShouldRunTasksOnVirtualThreads() throws Exception {
+        ExecutorService executor = VirtualThreads.newExecutor("test-vt-");
+
+        String name = executor.submit(() -> Thread.currentThread().toString()).get();
+        executor.shutdown();
+
+        assertTrue(name.startsWith("VirtualThread[#"));
+        assertTrue(name.contains("test-vt-0"));
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    @DisplayName("Verify newExecutor() method fails on runtimes without virtual threads")
+    void newExecutor_ShouldFailWithoutVirtualThreads() {
+        assertFalse(VirtualThreads.isSupported());
+        assertThrows(IllegalStateException.class, () -> VirtualThreads.newExecutor("vt-"));
+    }
+}
@@ -1,10 +1,13 @@
 package com.bookstore.controller;
 
+import static com.bookstore.util.SqlQueryBudget.assertQueryBudget;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.bookstore.dto.book.BookDto;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
@@ -95,6 +99,19 @@ class BookControllerTest {
         Assertions.assertEquals(expected, Arrays.stream(actual).toList());
     }
 
+    @Test
+    @Sql(scripts = "classpath:db/books/add-three-default-books.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:db/books/remove-all-books.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("Get all books within query budget")
+    void findAll_ShouldStayWithinQueryBudget() throws Exception {
+        assertQueryBudget(1, () -> mockMvc.perform(get("/books")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+
     @Test
     @Sql(scripts = "classpath:db/books/remove-all-books.sql",
             executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
@@ -220,6 +237,62 @@ class BookControllerTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    @Sql(scripts = "classpath:db/books/add-one-default-book.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:db/books/remove-all-books.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("Get unchanged book by ID with If-None-Match")
+    void findById_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/books/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/books/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @Sql(scripts = "classpath:db/books/add-one-default-book.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:db/books/remove-all-books.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("Get book by ID as CBOR with a JSON ETag")
+    void findById_CborWithJsonETag_ShouldReturnCbor() throws Exception {
+        mockMvc.perform(get("/books/{id}", 1L)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-cbor\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    @Sql(scripts = "classpath:db/books/add-one-default-book.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:db/books/remove-all-books.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("Update book by id with a stale If-Match")
+    void updateBookById_WithStaleETag_ShouldReturnPreconditionFailed() throws Exception {
+        CreateBookRequestDto createBookRequestDto = new CreateBookRequestDto()
+                .setTitle("1984")
+                .setAuthor("Updated Author")
+                .setPrice(BigDecimal.valueOf(19.99))
+                .setIsbn("ISBN123456789")
+                .setCategoryIds(Collections.emptySet());
+
+        mockMvc.perform(put("/books/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookRequestDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     @Sql(scripts = "classpath:db/books/add-three-default-books.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
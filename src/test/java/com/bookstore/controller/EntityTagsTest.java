@@ -0,0 +1,57 @@
+package com.bookstore.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bookstore.exception.PreconditionFailedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class EntityTagsTest {
+    @Test
+    @DisplayName("Verify of() method tags each negotiated representation separately")
+    void of_ShouldAppendBinaryFormat() {
+        assertEquals("\"3\"", EntityTags.of(3L, null));
+        assertEquals("\"3\"", EntityTags.of(3L, "*/*"));
+        assertEquals("\"3\"", EntityTags.of(3L, "application/json, application/cbor"));
+        assertEquals("\"3-cbor\"", EntityTags.of(3L, "application/cbor"));
+        assertEquals("\"3-smile\"", EntityTags.of(3L, "application/x-jackson-smile"));
+        assertEquals("\"3-cbor\"", EntityTags.of(3L, "application/json;q=0.5, application/cbor"));
+        assertEquals("\"3\"", EntityTags.of(3L, "application/cbor;q=0, */*"));
+    }
+
+    @Test
+    @DisplayName("Verify expectedVersion() method accepts the tag of any representation")
+    void expectedVersion_ShouldStripBinaryFormat() {
+        assertEquals(3L, EntityTags.expectedVersion("\"3\""));
+        assertEquals(3L, EntityTags.expectedVersion("\"3-cbor\""));
+        assertEquals(3L, EntityTags.expectedVersion("\"3-smile\""));
+        assertThrows(PreconditionFailedException.class,
+                () -> EntityTags.expectedVersion("\"3-xml\""));
+    }
+
+    @Test
+    @DisplayName("Verify checkNotModified() method varies the response by Accept")
+    void checkNotModified_ShouldSendVaryAccept() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books/1");
+        request.addHeader(HttpHeaders.ACCEPT, "application/cbor");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"3\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = EntityTags.checkNotModified(
+                new ServletWebRequest(request, response), 3L);
+
+        assertEquals(false, notModified);
+        assertEquals(HttpHeaders.ACCEPT, response.getHeader(HttpHeaders.VARY));
+        assertEquals("\"3-cbor\"", response.getHeader(HttpHeaders.ETAG));
+        request.removeHeader(HttpHeaders.IF_NONE_MATCH);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"3-cbor\"");
+        assertTrue(EntityTags.checkNotModified(
+                new ServletWebRequest(request, new MockHttpServletResponse()), 3L));
+    }
+}
@@ -6,6 +6,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.bookstore.dto.order.OrderBulkStatusUpdateRequestDto;
+import com.bookstore.dto.order.OrderBulkStatusUpdateResponseDto;
 import com.bookstore.dto.order.OrderRequestDto;
 import com.bookstore.dto.order.OrderResponseDto;
 import com.bookstore.dto.order.OrderUpdateRequestDto;
@@ -161,6 +163,41 @@ class OrderControllerTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    @DisplayName("Update status of many orders")
+    @Sql(scripts = {
+            "classpath:db/user/add-users-with-shopping-carts.sql",
+            "classpath:db/orders/add-default-orders.sql",
+    },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {
+            "classpath:db/orders/remove-orders.sql",
+            "classpath:db/user/delete-users-and-carts.sql"
+    },
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void updateOrderStatuses_ShouldUpdateOrdersAndReturnCounts() throws Exception {
+        OrderBulkStatusUpdateRequestDto requestDto = new OrderBulkStatusUpdateRequestDto()
+                .setIds(Set.of(1L, 2L))
+                .setStatus("DELIVERED");
+
+        OrderBulkStatusUpdateResponseDto expected = new OrderBulkStatusUpdateResponseDto()
+                .setStatus("DELIVERED")
+                .setUpdated(1)
+                .setSkipped(1);
+
+        String jsonRequest = objectMapper.writeValueAsString(requestDto);
+
+        MvcResult result = mockMvc.perform(patch("/orders/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        OrderBulkStatusUpdateResponseDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), OrderBulkStatusUpdateResponseDto.class);
+        Assertions.assertEquals(expected, actual);
+    }
+
     @Test
     @DisplayName("Find all order items by order")
     @Sql(scripts = {
@@ -0,0 +1,53 @@
+package com.bookstore.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheMetricsTest {
+    private static final String ROLE_REGION = "com.bookstore.model.Role";
+
+    @Mock
+    private SessionFactory sessionFactory;
+    @Mock
+    private Statistics statistics;
+    @Mock
+    private CacheRegionStatistics regionStatistics;
+
+    @Test
+    @DisplayName("Verify bindTo() method exposes hit ratio per cache region")
+    void bindTo_ShouldExposeHitRatioPerRegion() {
+        when(sessionFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[] {
+                ROLE_REGION, "default-update-timestamps-region"});
+        when(statistics.getCacheRegionStatistics(ROLE_REGION)).thenReturn(regionStatistics);
+        when(regionStatistics.getHitCount()).thenReturn(9L);
+        when(regionStatistics.getMissCount()).thenReturn(1L);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new SecondLevelCacheMetrics(sessionFactory).bindTo(registry);
+
+        assertEquals(0.9, registry.get("bookstore.hibernate.cache.hit-ratio")
+                .tag("region", ROLE_REGION).gauge().value());
+        assertEquals(1, registry.find("bookstore.hibernate.cache.hit-ratio").gauges().size());
+    }
+
+    @Test
+    @DisplayName("Verify hitRatio() method reports NaN before the first lookup")
+    void hitRatio_NoLookups_ShouldBeNaN() {
+        assertTrue(Double.isNaN(SecondLevelCacheMetrics.hitRatio(regionStatistics)));
+        assertTrue(Double.isNaN(SecondLevelCacheMetrics.hitRatio(null)));
+    }
+}
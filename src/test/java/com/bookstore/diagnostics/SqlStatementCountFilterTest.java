@@ -0,0 +1,45 @@
+package com.bookstore.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class SqlStatementCountFilterTest {
+    private final SqlStatementCountFilter filter = new SqlStatementCountFilter(3);
+
+    @Test
+    @DisplayName("Verify doFilter() method sets the header before the body is streamed")
+    void doFilter_StreamedBody_ShouldSetHeaderWithoutBuffering() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/books"), response,
+                (request, filteredResponse) -> {
+                    SqlStatementRecorder.record("select * from books");
+                    SqlStatementRecorder.record("select * from categories");
+                    filteredResponse.getOutputStream()
+                            .write("[]".getBytes(StandardCharsets.UTF_8));
+                    filteredResponse.flushBuffer();
+                    assertTrue(response.isCommitted());
+                    assertEquals("[]", response.getContentAsString());
+                });
+
+        assertEquals("2", response.getHeader(SqlStatementCountFilter.HEADER));
+    }
+
+    @Test
+    @DisplayName("Verify doFilter() method sets the header on responses without a body")
+    void doFilter_EmptyBody_ShouldSetHeader() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/books/1"), response,
+                (request, filteredResponse) ->
+                        SqlStatementRecorder.record("update books set deleted_at = now()"));
+
+        assertEquals("1", response.getHeader(SqlStatementCountFilter.HEADER));
+    }
+}
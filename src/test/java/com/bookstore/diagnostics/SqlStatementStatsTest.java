@@ -0,0 +1,45 @@
+package com.bookstore.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementStatsTest {
+    @Test
+    @DisplayName("Verify shapeOf() method strips literals and in lists")
+    void shapeOf_ShouldNormalizeStatement() {
+        assertEquals("select * from books b where b.id in (?) and b.title = ?",
+                SqlStatementStats.shapeOf("select *  from books b\n"
+                        + "where b.id in (?, ?, ?) and b.title = 'It''s'"));
+        assertEquals("select * from books where id = ?",
+                SqlStatementStats.shapeOf("select * from books where id = 42"));
+    }
+
+    @Test
+    @DisplayName("Verify getRepeatedShapes() method flags repeated statements")
+    void getRepeatedShapes_ShouldReturnShapesOverThreshold() {
+        SqlStatementStats stats = new SqlStatementStats();
+        stats.record("select * from shopping_carts where id = ?");
+        for (int i = 1; i <= 3; i++) {
+            stats.record("select * from books where id = " + i);
+        }
+
+        assertEquals(4, stats.getTotal());
+        assertEquals(Map.of("select * from books where id = ?", 3),
+                stats.getRepeatedShapes(3));
+        assertTrue(stats.getRepeatedShapes(4).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify recorder only counts inside a started scope")
+    void record_OutsideScope_IsIgnored() {
+        SqlStatementRecorder.record("select 1");
+        SqlStatementRecorder.start();
+        SqlStatementRecorder.record("select 1");
+
+        assertEquals(1, SqlStatementRecorder.stop().getTotal());
+    }
+}
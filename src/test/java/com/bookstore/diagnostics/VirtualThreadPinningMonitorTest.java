@@ -0,0 +1,76 @@
+package com.bookstore.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bookstore.config.VirtualThreads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+class VirtualThreadPinningMonitorTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+            registry, Duration.ofMillis(10), 12);
+
+    @Test
+    @DisplayName("Verify recordPinned() method counts pinning per first application frame")
+    void recordPinned_ShouldCountPerSite() {
+        List<String> frames = List.of("jdk.internal.vm.Continuation.pin:0",
+                "java.lang.VirtualThread.parkOnCarrierThread:675",
+                "org.postgresql.core.v3.QueryExecutorImpl.execute:355",
+                "com.zaxxer.hikari.pool.ProxyPreparedStatement.executeQuery:52");
+
+        monitor.recordPinned(Duration.ofMillis(30), frames);
+        monitor.recordPinned(Duration.ofMillis(50), frames);
+
+        assertEquals(Map.of("org.postgresql.core.v3.QueryExecutorImpl.execute:355", 2L),
+                monitor.getPinnedSites());
+        assertEquals(2, registry.get("bookstore.virtual-threads.pinned").timer().count());
+        assertEquals(80, registry.get("bookstore.virtual-threads.pinned").timer()
+                .totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Verify pinnedSite() method falls back to top frame for JDK-only stacks")
+    void pinnedSite_ShouldFallBackToTopFrame() {
+        assertEquals("java.lang.Object.wait:1",
+                VirtualThreadPinningMonitor.pinnedSite(List.of("java.lang.Object.wait:1")));
+        assertEquals("unknown", VirtualThreadPinningMonitor.pinnedSite(List.of()));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("Verify start() method reports virtual threads blocking inside synchronized")
+    void start_ShouldReportPinnedVirtualThread() throws Exception {
+        monitor.start();
+        try {
+            Object lock = new Object();
+            ExecutorService executor = VirtualThreads.newExecutor("pinned-test-");
+            executor.submit(() -> {
+                synchronized (lock) {
+                    Thread.sleep(100);
+                }
+                return null;
+            }).get();
+            executor.shutdown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (monitor.getPinnedSites().isEmpty() && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+            assertFalse(monitor.getPinnedSites().isEmpty());
+            assertTrue(monitor.getPinnedSites().keySet().iterator().next()
+                    .startsWith(VirtualThreadPinningMonitorTest.class.getName()));
+        } finally {
+            monitor.stop();
+        }
+    }
+}
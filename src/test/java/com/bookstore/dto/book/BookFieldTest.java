@@ -0,0 +1,30 @@
+package com.bookstore.dto.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bookstore.exception.UnknownFieldException;
+import java.util.EnumSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BookFieldTest {
+    @Test
+    @DisplayName("Verify parse() method maps property names to fields")
+    void parse_ValidFields_ShouldReturnFields() {
+        assertEquals(EnumSet.of(BookField.ID, BookField.TITLE, BookField.PRICE,
+                        BookField.COVER_IMAGE),
+                BookField.parse("id, title,price,,coverImage", EnumSet.allOf(BookField.class)));
+    }
+
+    @Test
+    @DisplayName("Verify parse() method rejects unknown, disallowed and empty field lists")
+    void parse_InvalidFields_ShouldThrow() {
+        assertThrows(UnknownFieldException.class,
+                () -> BookField.parse("id,password", EnumSet.allOf(BookField.class)));
+        assertThrows(UnknownFieldException.class,
+                () -> BookField.parse("categoryIds", BookField.WITHOUT_CATEGORY_IDS));
+        assertThrows(UnknownFieldException.class,
+                () -> BookField.parse(" , ", EnumSet.allOf(BookField.class)));
+    }
+}
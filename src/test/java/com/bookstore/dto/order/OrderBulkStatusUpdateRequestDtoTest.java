@@ -0,0 +1,65 @@
+package com.bookstore.dto.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderBulkStatusUpdateRequestDtoTest {
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void beforeAll() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        factory.close();
+    }
+
+    @Test
+    @DisplayName("Verify validation accepts known statuses and allowed transitions")
+    void validate_ValidRequests_ShouldPass() {
+        assertTrue(validator.validate(new OrderBulkStatusUpdateRequestDto()
+                .setIds(Set.of(1L)).setStatus("DELIVERED")).isEmpty());
+        assertTrue(validator.validate(new OrderBulkStatusUpdateRequestDto()
+                .setCurrentStatus("DELIVERED").setStatus("COMPLETED")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify validation rejects unknown statuses")
+    void validate_UnknownStatus_ShouldFail() {
+        assertEquals(Set.of("status must be one of DELIVERED, PENDING, COMPLETED"),
+                messages(new OrderBulkStatusUpdateRequestDto()
+                        .setIds(Set.of(1L)).setStatus("SHIPPED")));
+        assertEquals(Set.of("currentStatus must be a status that can change to status"),
+                messages(new OrderBulkStatusUpdateRequestDto()
+                        .setCurrentStatus("pending").setStatus("DELIVERED")));
+    }
+
+    @Test
+    @DisplayName("Verify validation rejects current statuses that can't change to status")
+    void validate_DisallowedTransition_ShouldFail() {
+        assertEquals(Set.of("currentStatus must be a status that can change to status"),
+                messages(new OrderBulkStatusUpdateRequestDto()
+                        .setCurrentStatus("COMPLETED").setStatus("DELIVERED")));
+    }
+
+    private static Set<String> messages(OrderBulkStatusUpdateRequestDto requestDto) {
+        return validator.validate(requestDto).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,266 @@
+package com.bookstore.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bookstore.inventory.FlashSaleLeaseStore.StaleLease;
+import com.bookstore.repository.book.BookRepository;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FlashSaleStockTest {
+    private static final long BOOK_ID = 1L;
+    private static final int THREADS = 32;
+    private static final int STOCK = 5_000;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private FlashSaleLeaseStore leaseStore;
+
+    private final UndoLogTransactionManager transactionManager = new UndoLogTransactionManager();
+    private final AtomicInteger booksTableStock = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        booksTableStock.set(STOCK);
+        when(bookRepository.decreaseStock(eq(BOOK_ID), anyInt())).thenAnswer(invocation -> {
+            int quantity = invocation.getArgument(1);
+            int current = booksTableStock.get();
+            while (current >= quantity) {
+                if (booksTableStock.compareAndSet(current, current - quantity)) {
+                    transactionManager.onRollback(() -> booksTableStock.addAndGet(quantity));
+                    return 1;
+                }
+                current = booksTableStock.get();
+            }
+            return 0;
+        });
+        when(bookRepository.increaseStock(eq(BOOK_ID), anyInt())).thenAnswer(invocation -> {
+            int quantity = invocation.getArgument(1);
+            booksTableStock.addAndGet(quantity);
+            transactionManager.onRollback(() -> booksTableStock.addAndGet(-quantity));
+            return 1;
+        });
+        when(bookRepository.findStockById(BOOK_ID))
+                .thenAnswer(invocation -> Optional.of(booksTableStock.get()));
+    }
+
+    @Test
+    @DisplayName("Verify tryTake() method leases a chunk from the books table")
+    void tryTake_EmptyCounter_LeasesChunk() {
+        FlashSaleStock flashSaleStock = flashSaleStock(100);
+
+        assertTrue(flashSaleStock.tryTake(BOOK_ID, 3));
+
+        assertEquals(97, flashSaleStock.available(BOOK_ID));
+        assertEquals(STOCK - 100, booksTableStock.get());
+    }
+
+    @Test
+    @DisplayName("Verify tryTake() method fails when the books table is exhausted")
+    void tryTake_NoStockLeft_ReturnsFalse() {
+        booksTableStock.set(2);
+        FlashSaleStock flashSaleStock = flashSaleStock(100);
+
+        assertFalse(flashSaleStock.tryTake(BOOK_ID, 3));
+        assertTrue(flashSaleStock.tryTake(BOOK_ID, 2));
+        assertEquals(0, booksTableStock.get());
+    }
+
+    @Test
+    @DisplayName("Verify tryTake() method keeps leased stock when the checkout rolls back")
+    void tryTake_CheckoutRolledBack_KeepsLeaseAndReturnsUnits() {
+        FlashSaleStock flashSaleStock = flashSaleStock(100);
+        TransactionTemplate checkout = new TransactionTemplate(transactionManager);
+
+        checkout.executeWithoutResult(status -> {
+            assertTrue(flashSaleStock.tryTake(BOOK_ID, 3));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(STOCK - 100, booksTableStock.get());
+        assertEquals(100, flashSaleStock.available(BOOK_ID));
+        verify(leaseStore).addLease(anyString(), eq(BOOK_ID), eq(100L));
+    }
+
+    @Test
+    @DisplayName("Verify tryTake() method takes from the books table while a lease is running")
+    void tryTake_LeaseInProgress_FallsBackToBooksTable() throws Exception {
+        FlashSaleStock flashSaleStock = flashSaleStock(100);
+        CountDownLatch leasing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            leasing.countDown();
+            release.await();
+            return null;
+        }).when(leaseStore).addLease(anyString(), eq(BOOK_ID), anyLong());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Future<Boolean> leaser = executor.submit(() -> flashSaleStock.tryTake(BOOK_ID, 1));
+        leasing.await();
+
+        assertTrue(flashSaleStock.tryTake(BOOK_ID, 2));
+        release.countDown();
+        assertTrue(leaser.get());
+        executor.shutdown();
+
+        assertEquals(STOCK - 102, booksTableStock.get());
+        assertEquals(99, flashSaleStock.available(BOOK_ID));
+    }
+
+    @Test
+    @DisplayName("Verify maintainLeases() method returns unsold units of stale leases")
+    void maintainLeases_StaleLeases_ReturnsRemainingStock() {
+        FlashSaleStock flashSaleStock = flashSaleStock(100);
+        when(leaseStore.lockStaleLeases(anyString(), eq(Duration.ofMinutes(5)), anyInt()))
+                .thenReturn(List.of(new StaleLease("dead", BOOK_ID, 40),
+                        new StaleLease("drained", BOOK_ID, 0)));
+
+        flashSaleStock.maintainLeases();
+
+        assertEquals(STOCK + 40, booksTableStock.get());
+        verify(leaseStore).foldTakes(anyString(), anyInt());
+        verify(leaseStore).delete("dead", BOOK_ID);
+        verify(leaseStore).delete("drained", BOOK_ID);
+        verify(bookRepository, never()).increaseStock(BOOK_ID, 0);
+    }
+
+    @Test
+    @DisplayName("Verify concurrent tryTake() calls never oversell leased stock")
+    void tryTake_ConcurrentCheckouts_NeverOversell() throws Exception {
+        FlashSaleStock flashSaleStock = flashSaleStock(64);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        final Future<?> reconciler = executor.submit(() -> {
+            start.await();
+            while (!Thread.currentThread().isInterrupted()) {
+                flashSaleStock.reconcile();
+            }
+            return null;
+        });
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                long sold = 0;
+                int misses = 0;
+                while (misses < 100) {
+                    if (flashSaleStock.tryTake(BOOK_ID, 1)) {
+                        sold++;
+                        misses = 0;
+                    } else {
+                        misses++;
+                    }
+                }
+                return sold;
+            }));
+        }
+        start.countDown();
+        long sold = 0;
+        for (Future<Long> result : results) {
+            sold += result.get();
+        }
+        reconciler.cancel(true);
+        executor.shutdownNow();
+
+        assertEquals(STOCK, sold);
+        assertEquals(0, booksTableStock.get());
+        assertEquals(0, flashSaleStock.available(BOOK_ID));
+    }
+
+    private FlashSaleStock flashSaleStock(int chunkSize) {
+        return new FlashSaleStock(bookRepository, leaseStore, transactionManager, true,
+                Set.of(BOOK_ID), 8, chunkSize, chunkSize / 4, Duration.ofMinutes(5));
+    }
+
+    private static class UndoLogTransactionManager extends AbstractPlatformTransactionManager {
+        private final ThreadLocal<Deque<Runnable>> undoLog = new ThreadLocal<>();
+
+        void onRollback(Runnable undo) {
+            Deque<Runnable> log = undoLog.get();
+            if (log != null) {
+                log.push(undo);
+            }
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object[] {undoLog.get()};
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((Object[]) transaction)[0] != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            Deque<Runnable> log = new ArrayDeque<>();
+            ((Object[]) transaction)[0] = log;
+            undoLog.set(log);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            ((Object[]) transaction)[0] = null;
+            Deque<Runnable> suspended = undoLog.get();
+            undoLog.remove();
+            return suspended;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void doResume(Object transaction, Object suspendedResources) {
+            undoLog.set((Deque<Runnable>) suspendedResources);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void doRollback(DefaultTransactionStatus status) {
+            ((Deque<Runnable>) ((Object[]) status.getTransaction())[0]).forEach(Runnable::run);
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            undoLog.remove();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.bookstore.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedStockCounterTest {
+    private static final int THREADS = 32;
+    private static final int STOCK = 10_000;
+
+    @Test
+    @DisplayName("Verify tryAcquire() method gathers quantity from several stripes")
+    void tryAcquire_QuantityLargerThanStripe_GathersFromStripes() {
+        StripedStockCounter counter = new StripedStockCounter(4);
+        counter.add(10);
+
+        assertTrue(counter.tryAcquire(7));
+        assertFalse(counter.tryAcquire(4));
+        assertEquals(3, counter.available());
+    }
+
+    @Test
+    @DisplayName("Verify concurrent tryAcquire() calls never oversell")
+    void tryAcquire_ConcurrentBuyers_NeverOversell() throws Exception {
+        StripedStockCounter counter = new StripedStockCounter(8);
+        counter.add(STOCK);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                long sold = 0;
+                int misses = 0;
+                while (misses < 1_000) {
+                    int quantity = ThreadLocalRandom.current().nextInt(1, 4);
+                    if (counter.tryAcquire(quantity)) {
+                        sold += quantity;
+                        misses = 0;
+                    } else {
+                        misses++;
+                    }
+                }
+                return sold;
+            }));
+        }
+        start.countDown();
+        long sold = 0;
+        for (Future<Long> result : results) {
+            sold += result.get();
+        }
+        executor.shutdown();
+
+        assertEquals(STOCK, sold + counter.available());
+        assertTrue(counter.available() < 3);
+    }
+}
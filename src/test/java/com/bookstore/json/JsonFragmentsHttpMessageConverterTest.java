@@ -0,0 +1,61 @@
+package com.bookstore.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class JsonFragmentsHttpMessageConverterTest {
+    private final JsonFragmentsHttpMessageConverter converter =
+            new JsonFragmentsHttpMessageConverter();
+
+    @Test
+    @DisplayName("Verify write() method joins fragments into a JSON array")
+    void write_Array_ShouldJoinFragments() throws Exception {
+        ByteBuffer first = json("{\"id\":1}");
+        JsonFragments fragments = JsonFragments.array(List.of(first, json("{\"id\":2}")));
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(fragments, MediaType.APPLICATION_JSON, message);
+        converter.write(JsonFragments.single(first), MediaType.APPLICATION_JSON,
+                new MockHttpOutputMessage());
+
+        assertEquals("[{\"id\":1},{\"id\":2}]", message.getBodyAsString());
+        assertEquals(19, message.getHeaders().getContentLength());
+        assertEquals(8, first.remaining());
+    }
+
+    @Test
+    @DisplayName("Verify write() method writes a single fragment and an empty array as is")
+    void write_SingleAndEmpty_ShouldWriteAsIs() throws Exception {
+        MockHttpOutputMessage single = new MockHttpOutputMessage();
+        MockHttpOutputMessage empty = new MockHttpOutputMessage();
+
+        converter.write(JsonFragments.single(json("{\"id\":1}")), null, single);
+        converter.write(JsonFragments.array(List.of()), null, empty);
+
+        assertEquals("{\"id\":1}", single.getBodyAsString());
+        assertEquals(MediaType.APPLICATION_JSON, single.getHeaders().getContentType());
+        assertEquals("[]", empty.getBodyAsString());
+        assertEquals(2, empty.getHeaders().getContentLength());
+    }
+
+    @Test
+    @DisplayName("Verify canRead() method rejects JSON fragments as request bodies")
+    void canRead_ShouldBeWriteOnly() {
+        assertTrue(converter.canWrite(JsonFragments.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(JsonFragments.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(String.class, MediaType.APPLICATION_JSON));
+    }
+
+    private static ByteBuffer json(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+    }
+}
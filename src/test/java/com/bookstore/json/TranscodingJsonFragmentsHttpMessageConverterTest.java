@@ -0,0 +1,73 @@
+package com.bookstore.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.bookstore.dto.book.BookDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class TranscodingJsonFragmentsHttpMessageConverterTest {
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Test
+    @DisplayName("Verify write() method transcodes a JSON array into CBOR that decodes to its DTOs")
+    void write_Array_ShouldDecodeAsCbor() throws Exception {
+        List<BookDto> books = List.of(book(1L, "12.50"), book(2L, "299.99"));
+        TranscodingJsonFragmentsHttpMessageConverter converter =
+                new TranscodingJsonFragmentsHttpMessageConverter(json.getFactory(),
+                        cbor.getFactory(), MediaType.APPLICATION_CBOR);
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(JsonFragments.array(List.of(fragment(books.get(0)),
+                fragment(books.get(1)))), MediaType.APPLICATION_CBOR, message);
+
+        assertEquals(books, cbor.readValue(message.getBodyAsBytes(),
+                new TypeReference<List<BookDto>>() { }));
+        assertEquals(MediaType.APPLICATION_CBOR, message.getHeaders().getContentType());
+    }
+
+    @Test
+    @DisplayName("Verify write() method transcodes a single JSON document into Smile")
+    void write_Single_ShouldDecodeAsSmile() throws Exception {
+        MediaType mediaType = new MediaType("application", "x-jackson-smile");
+        BookDto book = book(3L, "7.00");
+        ByteBuffer fragment = fragment(book);
+        TranscodingJsonFragmentsHttpMessageConverter converter =
+                new TranscodingJsonFragmentsHttpMessageConverter(json.getFactory(),
+                        smile.getFactory(), mediaType);
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(JsonFragments.single(fragment), mediaType, message);
+
+        assertEquals(book, smile.readValue(message.getBodyAsBytes(), BookDto.class));
+        assertEquals(fragment.capacity(), fragment.remaining());
+        assertFalse(converter.canRead(JsonFragments.class, mediaType));
+    }
+
+    private ByteBuffer fragment(BookDto book) throws Exception {
+        return ByteBuffer.wrap(json.writeValueAsBytes(book)).asReadOnlyBuffer();
+    }
+
+    private static BookDto book(long id, String price) {
+        return new BookDto().setId(id)
+                .setTitle("Book " + id)
+                .setAuthor("Author")
+                .setIsbn("isbn-" + id)
+                .setPrice(new BigDecimal(price))
+                .setStock(5)
+                .setCategoryIds(Set.of(1L));
+    }
+}
@@ -0,0 +1,100 @@
+package com.bookstore.maintenance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPartitionMaintenanceJobTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Verify parseUpperBound() method works")
+    void parseUpperBound_ShouldReadToValue() {
+        assertEquals(Optional.of(LocalDate.of(2024, 2, 1)),
+                OrderPartitionMaintenanceJob.parseUpperBound("FOR VALUES FROM "
+                        + "('2024-01-01 00:00:00') TO ('2024-02-01 00:00:00')"));
+        assertEquals(Optional.of(LocalDate.of(2024, 1, 1)),
+                OrderPartitionMaintenanceJob.parseUpperBound("FOR VALUES FROM "
+                        + "(MINVALUE) TO ('2024-01-01 00:00:00')"));
+        assertTrue(OrderPartitionMaintenanceJob.parseUpperBound("DEFAULT").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify createPartitions() method works")
+    void createPartitions_ShouldPremakeMonthlyPartitions() {
+        OrderPartitionMaintenanceJob job = new OrderPartitionMaintenanceJob(
+                jdbcTemplate, 1, 12, "orders_archive");
+
+        job.createPartitions(LocalDate.of(2024, 12, 1));
+
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS orders_p2024_12 "
+                + "PARTITION OF orders FOR VALUES FROM ('2024-12-01') TO ('2025-01-01')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS order_items_p2025_01 "
+                + "PARTITION OF order_items FOR VALUES FROM ('2025-01-01') TO ('2025-02-01')");
+    }
+
+    @Test
+    @DisplayName("Verify archivePartitions() method detaches items before orders")
+    @SuppressWarnings("unchecked")
+    void archivePartitions_ShouldDetachColdPartitionsOnly() {
+        OrderPartitionMaintenanceJob job = new OrderPartitionMaintenanceJob(
+                jdbcTemplate, 3, 12, "orders_archive");
+        when(jdbcTemplate.query(any(String.class), any(RowMapper.class),
+                eq(OrderPartitionMaintenanceJob.ORDER_ITEMS)))
+                .thenReturn(List.of(
+                        new String[] {"order_items_p2024_01",
+                                "FOR VALUES FROM ('2024-01-01 00:00:00') "
+                                        + "TO ('2024-02-01 00:00:00')"},
+                        new String[] {"order_items_p2024_02",
+                                "FOR VALUES FROM ('2024-02-01 00:00:00') "
+                                        + "TO ('2024-03-01 00:00:00')"}));
+        when(jdbcTemplate.query(any(String.class), any(RowMapper.class),
+                eq(OrderPartitionMaintenanceJob.ORDERS)))
+                .thenReturn(List.<String[]>of(
+                        new String[] {"orders_p2024_01",
+                                "FOR VALUES FROM ('2024-01-01 00:00:00') "
+                                        + "TO ('2024-02-01 00:00:00')"}));
+
+        job.archivePartitions(LocalDate.of(2024, 2, 1));
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("CREATE SCHEMA IF NOT EXISTS orders_archive");
+        inOrder.verify(jdbcTemplate).execute(
+                "ALTER TABLE order_items DETACH PARTITION order_items_p2024_01 CONCURRENTLY");
+        inOrder.verify(jdbcTemplate).execute(
+                "ALTER TABLE order_items_p2024_01 SET SCHEMA orders_archive");
+        inOrder.verify(jdbcTemplate).execute(
+                "ALTER TABLE orders DETACH PARTITION orders_p2024_01 CONCURRENTLY");
+        inOrder.verify(jdbcTemplate).execute(
+                "ALTER TABLE orders_p2024_01 SET SCHEMA orders_archive");
+        verify(jdbcTemplate, never()).execute(
+                "ALTER TABLE order_items DETACH PARTITION order_items_p2024_02 CONCURRENTLY");
+    }
+
+    @Test
+    @DisplayName("Verify job rejects invalid archive schema name")
+    void constructor_InvalidSchema_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderPartitionMaintenanceJob(
+                jdbcTemplate, 3, 12, "archive; DROP TABLE orders"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.bookstore.maintenance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SoftDeletePurgeJobTest {
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SoftDeletePurgeWriter purgeWriter;
+
+    private SoftDeletePurgeProgress progress;
+
+    private SoftDeletePurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        progress = new SoftDeletePurgeProgress();
+        job = new SoftDeletePurgeJob(jdbcTemplate, purgeWriter, progress, 30, 2, 0, false);
+    }
+
+    @Test
+    @DisplayName("Verify run() method purges in keyset batches")
+    void run_ShouldPurgeBatchesAfterLastId() {
+        when(jdbcTemplate.queryForList(anyString(), anyMap(), eq(Long.class)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.queryForList(eq(PurgeTable.CART_ITEMS.selectBatchSql()),
+                argThat((Map<String, ?> params) -> params.get("afterId").equals(0L)),
+                eq(Long.class)))
+                .thenReturn(List.of(3L, 7L));
+        when(jdbcTemplate.queryForList(eq(PurgeTable.CART_ITEMS.selectBatchSql()),
+                argThat((Map<String, ?> params) -> params.get("afterId").equals(7L)),
+                eq(Long.class)))
+                .thenReturn(List.of(9L));
+        when(purgeWriter.purge(PurgeTable.CART_ITEMS, List.of(3L, 7L), false)).thenReturn(2);
+        when(purgeWriter.purge(PurgeTable.CART_ITEMS, List.of(9L), false)).thenReturn(1);
+
+        job.run();
+
+        SoftDeletePurgeProgress.TableProgress cartItems =
+                progress.getTables().get(PurgeTable.CART_ITEMS);
+        assertEquals(3, cartItems.getPurged());
+        assertEquals(2, cartItems.getBatches());
+        assertEquals(9, cartItems.getLastId());
+        assertFalse(progress.isRunning());
+        assertNotNull(progress.getLastRunFinishedAt());
+        verify(purgeWriter, never()).purge(eq(PurgeTable.USERS), anyList(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Verify start() method purges off the scheduler thread")
+    void start_ShouldRunOnPurgeThread() throws Exception {
+        CompletableFuture<String> purgeThread = new CompletableFuture<>();
+        when(jdbcTemplate.queryForList(anyString(), anyMap(), eq(Long.class)))
+                .thenAnswer(invocation -> {
+                    purgeThread.complete(Thread.currentThread().getName());
+                    return List.of();
+                });
+
+        job.start();
+
+        assertTrue(purgeThread.get(5, TimeUnit.SECONDS).startsWith("soft-delete-purge-"));
+        job.stop();
+    }
+}
@@ -0,0 +1,26 @@
+package com.bookstore.maintenance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SoftDeletePurgeMetricsTest {
+    @Test
+    @DisplayName("Verify bindTo() method exposes purge progress per table")
+    void bindTo_ShouldReadPurgeProgress() {
+        SoftDeletePurgeProgress progress = new SoftDeletePurgeProgress();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new SoftDeletePurgeMetrics(progress).bindTo(registry);
+
+        progress.runStarted();
+        progress.batchPurged(PurgeTable.CART_ITEMS, 40, 99L);
+
+        assertEquals(1, registry.get("bookstore.purge.running").gauge().value());
+        assertEquals(40, registry.get("bookstore.purge.rows")
+                .tag("table", "cart_items").functionCounter().count());
+        assertEquals(1, registry.get("bookstore.purge.batches")
+                .tag("table", "cart_items").functionCounter().count());
+    }
+}
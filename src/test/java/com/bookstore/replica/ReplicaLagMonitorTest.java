@@ -0,0 +1,87 @@
+package com.bookstore.replica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(jdbcTemplate, Duration.ofSeconds(2),
+                Duration.ofSeconds(1), registry);
+    }
+
+    @Test
+    @DisplayName("Verify check() method keeps the replica usable within the lag budget")
+    void check_LagWithinBudget_ShouldBeUsable() {
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class))
+                .thenReturn(1.25);
+
+        monitor.check();
+
+        assertTrue(monitor.isUsable());
+        assertEquals(1250, monitor.getLagMillis());
+        assertEquals(1250, registry.get("bookstore.datasource.replica.lag").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Verify check() method takes the replica out when it lags behind")
+    void check_LagOverBudget_ShouldNotBeUsable() {
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class))
+                .thenReturn(0.0, 7.5);
+
+        monitor.check();
+        assertTrue(monitor.isUsable());
+        monitor.check();
+
+        assertFalse(monitor.isUsable());
+        assertEquals(7500, monitor.getLagMillis());
+    }
+
+    @Test
+    @DisplayName("Verify check() method takes the replica out when it is unreachable")
+    void check_ReplicaDown_ShouldNotBeUsable() {
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        monitor.check();
+
+        assertFalse(monitor.isUsable());
+        assertEquals(-1, monitor.getLagMillis());
+    }
+
+    @Test
+    @DisplayName("Verify isUsable() method takes the replica out when checks stop succeeding")
+    void isUsable_NoRecentCheck_ShouldNotBeUsable() throws InterruptedException {
+        ReplicaLagMonitor fastMonitor = new ReplicaLagMonitor(jdbcTemplate, Duration.ofSeconds(2),
+                Duration.ofMillis(10), registry);
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class))
+                .thenReturn(0.0);
+
+        fastMonitor.check();
+        assertTrue(fastMonitor.isUsable());
+        TimeUnit.MILLISECONDS.sleep(10 * ReplicaLagMonitor.MISSED_CHECKS + 20);
+
+        assertFalse(fastMonitor.isUsable());
+    }
+}
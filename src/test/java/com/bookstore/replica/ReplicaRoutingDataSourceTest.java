@@ -0,0 +1,120 @@
+package com.bookstore.replica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.bookstore.replica.ReplicaRoutingDataSource.Route;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+    private static final String USER = "bob@example.com";
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replica;
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor, tracker,
+                registry);
+        TransactionSynchronizationManager.initSynchronization();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(USER, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Verify determineCurrentLookupKey() method routes read-only transactions "
+            + "to the replica")
+    void determineCurrentLookupKey_ReadOnly_ShouldRouteToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isUsable()).thenReturn(true);
+
+        assertEquals(Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+        assertEquals(1, registry.get("bookstore.datasource.routed")
+                .tag("reason", "read_only").counter().count());
+    }
+
+    @Test
+    @DisplayName("Verify determineCurrentLookupKey() method falls back to the primary "
+            + "when the replica lags")
+    void determineCurrentLookupKey_ReplicaLagging_ShouldRouteToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isUsable()).thenReturn(false);
+
+        assertEquals(Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        assertEquals(1, registry.get("bookstore.datasource.routed")
+                .tag("reason", "replica_lag").counter().count());
+    }
+
+    @Test
+    @DisplayName("Verify determineCurrentLookupKey() method keeps a user on the primary "
+            + "after their committed write")
+    void determineCurrentLookupKey_AfterOwnWrite_ShouldRouteToPrimary() {
+        assertEquals(Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        assertFalse(tracker.isSticky(USER));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        assertTrue(tracker.isSticky(USER));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice@example.com", null));
+        when(lagMonitor.isUsable()).thenReturn(true);
+        assertEquals(Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Verify determineCurrentLookupKey() method does not track rolled back writes")
+    void determineCurrentLookupKey_RolledBackWrite_ShouldNotStick() {
+        assertEquals(Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(tracker.isSticky(USER));
+    }
+
+    @Test
+    @DisplayName("Verify evictExpired() method drops users whose window has passed")
+    void evictExpired_ShouldDropExpiredUsers() {
+        ReadYourWritesTracker expiring = new ReadYourWritesTracker(Duration.ZERO);
+        expiring.markWrite(USER);
+        tracker.markWrite(USER);
+
+        expiring.evictExpired();
+        tracker.evictExpired();
+
+        assertEquals(0, expiring.size());
+        assertEquals(1, tracker.size());
+    }
+}
@@ -0,0 +1,107 @@
+package com.bookstore.replica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingIntegrationTest {
+    private static final String CURRENT_DATABASE = "SELECT current_database()";
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("primary_db");
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("replica_db");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        DataSource replica = dataSource(REPLICA);
+        lagMonitor = new ReplicaLagMonitor(new JdbcTemplate(replica), Duration.ofSeconds(1),
+                Duration.ofMinutes(1), registry);
+        lagMonitor.check();
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                dataSource(PRIMARY), replica, lagMonitor,
+                new ReadYourWritesTracker(Duration.ofMinutes(1)), registry));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(
+                routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Verify read-only transactions run on the replica and writes on the primary")
+    void readOnlyTransaction_ShouldRunOnReplica() {
+        assertEquals("replica_db", readOnlyTransaction.execute(status -> currentDatabase()));
+        assertEquals("primary_db", writeTransaction.execute(status -> currentDatabase()));
+        assertEquals("primary_db", currentDatabase());
+    }
+
+    @Test
+    @DisplayName("Verify a user reads from the primary right after their own write")
+    void readOnlyTransaction_AfterOwnWrite_ShouldRunOnPrimary() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("bob@example.com", null));
+        assertEquals("replica_db", readOnlyTransaction.execute(status -> currentDatabase()));
+
+        writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.execute("CREATE TEMPORARY TABLE touched (id int)"));
+
+        assertEquals("primary_db", readOnlyTransaction.execute(status -> currentDatabase()));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice@example.com", null));
+        assertEquals("replica_db", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("Verify read-only transactions fall back to the primary when the replica is down")
+    void readOnlyTransaction_ReplicaDown_ShouldRunOnPrimary() {
+        REPLICA.getDockerClient().pauseContainerCmd(REPLICA.getContainerId()).exec();
+        try {
+            lagMonitor.check();
+            assertEquals("primary_db", readOnlyTransaction.execute(status -> currentDatabase()));
+        } finally {
+            REPLICA.getDockerClient().unpauseContainerCmd(REPLICA.getContainerId()).exec();
+        }
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class);
+    }
+
+    private static DataSource dataSource(PostgreSQLContainer<?> container) {
+        return new DriverManagerDataSource(container.getJdbcUrl()
+                + "&connectTimeout=2&socketTimeout=2", container.getUsername(),
+                container.getPassword());
+    }
+}
@@ -3,12 +3,15 @@ package com.bookstore.repository.book;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.bookstore.dto.book.BookField;
 import com.bookstore.model.Book;
 import com.bookstore.model.Category;
 import com.bookstore.repository.category.CategoryRepository;
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
@@ -110,4 +113,47 @@ class BookRepositoryTest {
         List<Book> books = bookRepository.findAllWithCategories(PageRequest.of(0, 10));
         assertEquals(2, books.size());
     }
+
+    @Test
+    @DisplayName("Find only the requested fields of books")
+    void findAllFields_ReturnOnlyRequestedFields() {
+        Category category = new Category();
+        category.setName("Fantasy");
+        categoryRepository.save(category);
+
+        Book book = new Book();
+        book.setTitle("Test 1");
+        book.setCoverImage("Test");
+        book.setIsbn("Test");
+        book.setAuthor("Test");
+        book.setDescription("Long description");
+        book.setPrice(BigDecimal.valueOf(10));
+        book.setCategories(Set.of(category));
+        bookRepository.save(book);
+
+        List<Map<String, Object>> books = bookRepository.findAllFieldsByCategoryId(
+                category.getId(), EnumSet.of(BookField.ID, BookField.TITLE,
+                        BookField.CATEGORY_IDS));
+
+        assertEquals(List.of(Map.of("id", book.getId(), "title", "Test 1",
+                "categoryIds", Set.of(category.getId()))), books);
+    }
+
+    @Test
+    @DisplayName("Change stock only when enough is left and bump the version")
+    void decreaseStock_NotEnoughStock_ReturnZero() {
+        Book book = new Book();
+        book.setTitle("Test 1");
+        book.setIsbn("Test");
+        book.setAuthor("Test");
+        book.setPrice(BigDecimal.valueOf(10));
+        bookRepository.save(book);
+
+        assertEquals(1, bookRepository.increaseStock(book.getId(), 5));
+        assertEquals(0, bookRepository.decreaseStock(book.getId(), 6));
+        assertEquals(1, bookRepository.decreaseStock(book.getId(), 2));
+        assertEquals(Optional.of(3), bookRepository.findStockById(book.getId()));
+        assertEquals(Optional.of(book.getVersion() + 2),
+                bookRepository.findVersionById(book.getId()));
+    }
 }
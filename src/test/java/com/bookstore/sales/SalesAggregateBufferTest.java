@@ -0,0 +1,85 @@
+package com.bookstore.sales;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.bookstore.model.Status;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SortedMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SalesAggregateBufferTest {
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2023, 9, 10, 12, 0);
+
+    @Mock
+    private SalesAggregateWriter salesAggregateWriter;
+
+    @InjectMocks
+    private SalesAggregateBuffer salesAggregateBuffer;
+
+    @Captor
+    private ArgumentCaptor<SortedMap<Long, SalesDelta>> bookDeltas;
+
+    @Captor
+    private ArgumentCaptor<SortedMap<LocalDate, DailySalesDelta>> dailyDeltas;
+
+    @Test
+    @DisplayName("Verify flush() merges buffered orders into one write")
+    void flush_WithBufferedOrders_WritesMergedDeltas() {
+        salesAggregateBuffer.onOrderPlaced(new OrderPlacedEvent(ORDER_DATE, List.of(
+                new OrderPlacedEvent.OrderLine(1L, 2, BigDecimal.valueOf(20)),
+                new OrderPlacedEvent.OrderLine(2L, 1, BigDecimal.valueOf(15)))));
+        salesAggregateBuffer.onOrderPlaced(new OrderPlacedEvent(ORDER_DATE, List.of(
+                new OrderPlacedEvent.OrderLine(1L, 1, BigDecimal.valueOf(10)))));
+        salesAggregateBuffer.onOrderStatusChanged(
+                new OrderStatusChangedEvent(Status.DELIVERED, 1, ORDER_DATE));
+
+        salesAggregateBuffer.flush();
+
+        verify(salesAggregateWriter).write(bookDeltas.capture(), dailyDeltas.capture());
+        assertEquals(new SalesDelta(3, BigDecimal.valueOf(30)), bookDeltas.getValue().get(1L));
+        assertEquals(new SalesDelta(1, BigDecimal.valueOf(15)), bookDeltas.getValue().get(2L));
+        assertEquals(new DailySalesDelta(2, 4, BigDecimal.valueOf(45), 1, 0),
+                dailyDeltas.getValue().get(ORDER_DATE.toLocalDate()));
+    }
+
+    @Test
+    @DisplayName("Verify flush() skips write when nothing is buffered")
+    void flush_WithEmptyBuffer_DoesNotWrite() {
+        salesAggregateBuffer.flush();
+
+        verify(salesAggregateWriter, never()).write(any(), any());
+    }
+
+    @Test
+    @DisplayName("Verify flush() keeps deltas when write fails")
+    void flush_WhenWriteFails_RetriesDeltasOnNextFlush() {
+        salesAggregateBuffer.onOrderPlaced(new OrderPlacedEvent(ORDER_DATE, List.of(
+                new OrderPlacedEvent.OrderLine(1L, 2, BigDecimal.valueOf(20)))));
+        doThrow(new IllegalStateException("Database is down"))
+                .doNothing()
+                .when(salesAggregateWriter).write(any(), any());
+
+        salesAggregateBuffer.flush();
+        salesAggregateBuffer.flush();
+
+        verify(salesAggregateWriter, times(2))
+                .write(bookDeltas.capture(), dailyDeltas.capture());
+        assertEquals(new SalesDelta(2, BigDecimal.valueOf(20)), bookDeltas.getValue().get(1L));
+    }
+}
@@ -3,18 +3,29 @@ package com.bookstore.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.bookstore.cache.BookReadCache;
+import com.bookstore.cache.CatalogChangedEvent;
+import com.bookstore.cache.PopularityTracker;
+import com.bookstore.catalog.BookJsonCache;
+import com.bookstore.catalog.CatalogEntry;
+import com.bookstore.catalog.CatalogIndex;
 import com.bookstore.dto.book.BookDto;
 import com.bookstore.dto.book.BookDtoWithoutCategoryIds;
+import com.bookstore.dto.book.BookField;
 import com.bookstore.dto.book.BookSearchParametersDto;
 import com.bookstore.dto.book.CreateBookRequestDto;
 import com.bookstore.exception.EntityNotFoundException;
+import com.bookstore.exception.PreconditionFailedException;
+import com.bookstore.json.JsonFragments;
 import com.bookstore.mapper.BookMapper;
 import com.bookstore.model.Book;
 import com.bookstore.model.Category;
@@ -23,10 +34,16 @@ import com.bookstore.repository.book.BookSpecificationBuilder;
 import com.bookstore.repository.category.CategoryRepository;
 import com.bookstore.service.impl.BookServiceImpl;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +51,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -58,6 +76,21 @@ class BookServiceTest {
     @Mock
     private BookSpecificationBuilder bookSpecificationBuilder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookReadCache bookReadCache;
+
+    @Mock
+    private CatalogIndex catalogIndex;
+
+    @Mock
+    private BookJsonCache bookJsonCache;
+
+    @Mock
+    private PopularityTracker popularityTracker;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -155,17 +188,12 @@ class BookServiceTest {
         expected.setId(bookId);
         expected.setTitle("Sample Book");
 
-        Book book = new Book();
-        book.setId(bookId);
-        book.setTitle("Sample Book");
-
-        when(bookRepository.findBookById(bookId)).thenReturn(Optional.of(book));
-        when(bookMapper.toDto(book)).thenReturn(expected);
+        when(bookReadCache.get(bookId)).thenReturn(expected);
 
         BookDto actual = bookService.findById(bookId);
 
-        verify(bookRepository).findBookById(bookId);
-        verify(bookMapper).toDto(book);
+        verify(bookReadCache).get(bookId);
+        verifyNoMoreInteractions(bookRepository, bookMapper);
 
         assertEquals(expected, actual);
     }
@@ -175,12 +203,13 @@ class BookServiceTest {
     public void findBookById_WithInvalidId_ShouldThrowEntityNotFoundException() {
         Long bookId = 1L;
 
-        when(bookRepository.findBookById(bookId)).thenReturn(Optional.empty());
+        when(bookReadCache.get(bookId)).thenThrow(
+                new EntityNotFoundException("Can't find book by id: " + bookId));
 
         assertThrows(EntityNotFoundException.class, () -> bookService.findById(bookId));
 
-        verify(bookRepository).findBookById(bookId);
-        verify(bookMapper, never()).toDto(any());
+        verify(bookReadCache).get(bookId);
+        verifyNoInteractions(popularityTracker);
     }
 
     @Test
@@ -191,6 +220,7 @@ class BookServiceTest {
         bookService.deleteById(bookId);
 
         verify(bookRepository).deleteById(bookId);
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.book(bookId));
     }
 
     @Test
@@ -218,6 +248,7 @@ class BookServiceTest {
         verify(bookRepository).findBookById(bookId);
 
         verify(bookRepository).save(book);
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.book(bookId));
     }
 
     @Test
@@ -286,4 +317,168 @@ class BookServiceTest {
         List<BookDtoWithoutCategoryIds> expected = List.of(bookDto1, bookDto2);
         assertEquals(expected, result);
     }
+
+    @Test
+    @DisplayName("Verify findAllByCategoryId() method serves books from the catalog index")
+    public void findAllByCategoryId_IndexReady_ShouldUseCatalogIndex() {
+        Long categoryId = 1L;
+        CatalogEntry entry = catalogEntry(2L);
+        BookDtoWithoutCategoryIds expected = new BookDtoWithoutCategoryIds().setId(2L);
+
+        when(catalogIndex.isReady()).thenReturn(true);
+        when(catalogIndex.findInCategory(categoryId)).thenReturn(List.of(entry));
+        when(bookMapper.toDtoWithoutCategories(entry)).thenReturn(expected);
+
+        List<BookDtoWithoutCategoryIds> result = bookService.findAllByCategoryId(categoryId);
+
+        assertEquals(List.of(expected), result);
+        verifyNoMoreInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("Verify findById() method serves books from the catalog index")
+    public void findById_IndexReady_ShouldUseCatalogIndex() {
+        CatalogEntry entry = catalogEntry(2L);
+        BookDto expected = new BookDto().setId(2L);
+
+        when(catalogIndex.isReady()).thenReturn(true);
+        when(catalogIndex.find(2L)).thenReturn(Optional.of(entry));
+        when(bookMapper.toDto(entry)).thenReturn(expected);
+
+        assertEquals(expected, bookService.findById(2L));
+        verify(popularityTracker).recordBook(2L);
+        verifyNoMoreInteractions(bookReadCache);
+    }
+
+    @Test
+    @DisplayName("Verify findById() method throws when the catalog index has no such book")
+    public void findById_IndexReadyMissingBook_ShouldThrow() {
+        when(catalogIndex.isReady()).thenReturn(true);
+        when(catalogIndex.find(3L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> bookService.findById(3L));
+        verifyNoInteractions(popularityTracker);
+    }
+
+    @Test
+    @DisplayName("Verify findAllAsJson() method loads books the catalog index doesn't have yet")
+    public void findAllAsJson_IndexReady_ShouldUseCachedJson() {
+        Pageable pageable = PageRequest.of(0, 4);
+        final ByteBuffer first = ByteBuffer.wrap("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        final ByteBuffer second = ByteBuffer.wrap("{\"id\":2}".getBytes(StandardCharsets.UTF_8));
+        final ByteBuffer third = ByteBuffer.wrap("{\"id\":3}".getBytes(StandardCharsets.UTF_8));
+        Book book = new Book();
+        book.setId(2L);
+        BookDto bookDto = new BookDto().setId(2L);
+
+        when(catalogIndex.isReady()).thenReturn(true);
+        when(bookRepository.findAllIds(pageable)).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(bookJsonCache.find(1L)).thenReturn(Optional.of(first));
+        when(bookJsonCache.find(2L)).thenReturn(Optional.empty());
+        when(bookJsonCache.find(3L)).thenReturn(Optional.of(third));
+        when(bookJsonCache.find(4L)).thenReturn(Optional.empty());
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(2L, 4L)))
+                .thenReturn(List.of(book));
+        when(bookMapper.toDto(book)).thenReturn(bookDto);
+        when(bookJsonCache.serialize(bookDto)).thenReturn(second);
+
+        JsonFragments json = bookService.findAllAsJson(pageable);
+
+        assertEquals(List.of(first, second, third), json.fragments());
+        assertTrue(json.array());
+        verifyNoMoreInteractions(bookReadCache);
+    }
+
+    @Test
+    @DisplayName("Verify findByIdAsJson() method serializes the cached book before the index")
+    public void findByIdAsJson_IndexNotReady_ShouldSerializeReadCacheBook() {
+        BookDto book = new BookDto().setId(4L);
+        ByteBuffer json = ByteBuffer.wrap("{\"id\":4}".getBytes(StandardCharsets.UTF_8));
+
+        when(bookReadCache.get(4L)).thenReturn(book);
+        when(bookJsonCache.serialize(book)).thenReturn(json);
+
+        assertEquals(JsonFragments.single(json), bookService.findByIdAsJson(4L));
+        verify(popularityTracker).recordBook(4L);
+    }
+
+    @Test
+    @DisplayName("Verify findByIdAsJson() method throws when the catalog index has no such book")
+    public void findByIdAsJson_IndexReadyMissingBook_ShouldThrow() {
+        when(catalogIndex.isReady()).thenReturn(true);
+        when(bookJsonCache.find(5L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> bookService.findByIdAsJson(5L));
+    }
+
+    @Test
+    @DisplayName("Verify search() method projects only the requested fields")
+    public void search_WithFields_ShouldUseFieldProjection() {
+        BookSearchParametersDto params = new BookSearchParametersDto(new String[] {"1984"},
+                null);
+        Specification<Book> specification = Specification.where(null);
+        Set<BookField> fields = EnumSet.of(BookField.ID, BookField.TITLE);
+        Pageable pageable = PageRequest.of(0, 10);
+        List<Map<String, Object>> expected = List.of(Map.of("id", 1L, "title", "1984"));
+
+        when(bookSpecificationBuilder.build(params)).thenReturn(specification);
+        when(bookRepository.findAllFields(specification, fields, pageable)).thenReturn(expected);
+
+        assertEquals(expected, bookService.search(params, fields, pageable));
+    }
+
+    @Test
+    @DisplayName("Verify findAllByCategoryId() method picks requested fields from the index")
+    public void findAllByCategoryId_WithFieldsIndexReady_ShouldUseCatalogIndex() {
+        when(catalogIndex.isReady()).thenReturn(true);
+        when(catalogIndex.findInCategory(1L)).thenReturn(List.of(catalogEntry(2L)));
+
+        final List<Map<String, Object>> actual = bookService.findAllByCategoryId(1L,
+                EnumSet.of(BookField.ID, BookField.PRICE, BookField.COVER_IMAGE));
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 2L);
+        expected.put("price", BigDecimal.TEN);
+        expected.put("coverImage", null);
+        assertEquals(List.of(expected), actual);
+        verifyNoMoreInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("Verify getVersion() method reads the version from the catalog index")
+    public void getVersion_IndexReady_ShouldUseCatalogIndex() {
+        when(catalogIndex.isReady()).thenReturn(true);
+        when(catalogIndex.version(2L)).thenReturn(OptionalLong.of(3L));
+
+        assertEquals(3L, bookService.getVersion(2L));
+        verifyNoMoreInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("Verify getVersion() method throws when the book does not exist")
+    public void getVersion_MissingBook_ShouldThrow() {
+        when(bookRepository.findVersionById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> bookService.getVersion(9L));
+    }
+
+    @Test
+    @DisplayName("Verify updateBookById() method rejects a stale expected version")
+    public void updateBookById_WithStaleVersion_ShouldThrowPreconditionFailedException() {
+        Book book = new Book();
+        book.setId(1L);
+        book.setVersion(2L);
+
+        when(bookRepository.findBookById(1L)).thenReturn(Optional.of(book));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> bookService.updateBookById(1L, createBookRequestDto, 1L));
+        verify(bookRepository, never()).save(any());
+        verifyNoMoreInteractions(categoryRepository, eventPublisher);
+    }
+
+    private static CatalogEntry catalogEntry(long id) {
+        return new CatalogEntry(id, "Title", "Author", "isbn", BigDecimal.TEN, null, null, 1,
+                3L, new long[] {1L});
+    }
 }
@@ -7,8 +7,10 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.bookstore.cache.CatalogChangedEvent;
 import com.bookstore.dto.category.CategoryDto;
 import com.bookstore.exception.EntityNotFoundException;
+import com.bookstore.exception.PreconditionFailedException;
 import com.bookstore.mapper.CategoryMapper;
 import com.bookstore.model.Category;
 import com.bookstore.repository.category.CategoryRepository;
@@ -22,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -35,6 +38,9 @@ class CategoryServiceTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -169,6 +175,30 @@ class CategoryServiceTest {
         assertEquals(categoryDto, result);
     }
 
+    @Test
+    @DisplayName("Verify update() method rejects a stale expected version")
+    public void update_WithStaleVersion_ShouldThrowPreconditionFailedException() {
+        Category existingCategory = new Category();
+        existingCategory.setId(1L);
+        existingCategory.setVersion(4L);
+
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(existingCategory));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> categoryService.update(1L, new CategoryDto(), 3L));
+
+        verify(categoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Verify getVersion() method looks up only the category version")
+    public void getVersion_WithValidId_ShouldReturnVersion() {
+        when(categoryRepository.findVersionById(1L)).thenReturn(Optional.of(2L));
+
+        assertEquals(2L, categoryService.getVersion(1L));
+        verify(categoryRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("Verify update() method throws exception when category not found")
     public void update_WithInvalidId_ShouldThrowEntityNotFoundException() {
@@ -195,5 +225,6 @@ class CategoryServiceTest {
         categoryService.deleteById(categoryId);
 
         verify(categoryRepository).deleteById(categoryId);
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.category(categoryId));
     }
 }
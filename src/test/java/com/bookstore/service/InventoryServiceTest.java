@@ -0,0 +1,179 @@
+package com.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bookstore.cache.CatalogChangedEvent;
+import com.bookstore.exception.InsufficientStockException;
+import com.bookstore.inventory.FlashSaleStock;
+import com.bookstore.mapper.StockReservationMapper;
+import com.bookstore.model.StockReservation;
+import com.bookstore.repository.book.BookRepository;
+import com.bookstore.repository.inventory.StockReservationRepository;
+import com.bookstore.repository.shoppingcart.ShoppingCartRepository;
+import com.bookstore.service.impl.InventoryServiceImpl;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryServiceTest {
+    @InjectMocks
+    private InventoryServiceImpl inventoryService;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private ShoppingCartRepository shoppingCartRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private StockReservationMapper stockReservationMapper;
+
+    @Mock
+    private FlashSaleStock flashSaleStock;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("Verify takeStock() method decreases stock in book id order")
+    void takeStock_WithoutReservations_DecreasesStockSorted() {
+        when(stockReservationRepository.findAllByUserId(1L)).thenReturn(List.of());
+        when(bookRepository.decreaseStock(anyLong(), anyInt())).thenReturn(1);
+
+        inventoryService.takeStock(1L, Map.of(5L, 1, 2L, 3));
+
+        InOrder inOrder = inOrder(bookRepository);
+        inOrder.verify(bookRepository).decreaseStock(2L, 3);
+        inOrder.verify(bookRepository).decreaseStock(5L, 1);
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.book(2L));
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.book(5L));
+    }
+
+    @Test
+    @DisplayName("Verify takeStock() method consumes active reservations")
+    void takeStock_WithReservation_TakesOnlyDifference() {
+        StockReservation reservation = reservation(7L, 2L, 2,
+                LocalDateTime.now().plusMinutes(5));
+        when(stockReservationRepository.findAllByUserId(1L)).thenReturn(List.of(reservation));
+        when(stockReservationRepository.deleteReservationById(7L)).thenReturn(1);
+        when(bookRepository.decreaseStock(2L, 1)).thenReturn(1);
+
+        inventoryService.takeStock(1L, Map.of(2L, 3));
+
+        verify(bookRepository).decreaseStock(2L, 1);
+    }
+
+    @Test
+    @DisplayName("Verify takeStock() method ignores reservations released by the reaper")
+    void takeStock_ReservationAlreadyReleased_TakesFullQuantity() {
+        StockReservation reservation = reservation(7L, 2L, 2,
+                LocalDateTime.now().plusMinutes(5));
+        when(stockReservationRepository.findAllByUserId(1L)).thenReturn(List.of(reservation));
+        when(stockReservationRepository.deleteReservationById(7L)).thenReturn(0);
+        when(bookRepository.decreaseStock(2L, 3)).thenReturn(1);
+
+        inventoryService.takeStock(1L, Map.of(2L, 3));
+
+        verify(bookRepository).decreaseStock(2L, 3);
+    }
+
+    @Test
+    @DisplayName("Verify takeStock() method releases expired reservations not yet reaped")
+    void takeStock_ExpiredReservation_ReleasesItsStock() {
+        StockReservation reservation = reservation(7L, 2L, 5,
+                LocalDateTime.now().minusMinutes(1));
+        when(stockReservationRepository.findAllByUserId(1L)).thenReturn(List.of(reservation));
+        when(stockReservationRepository.deleteReservationById(7L)).thenReturn(1);
+
+        inventoryService.takeStock(1L, Map.of(2L, 3));
+
+        verify(bookRepository).increaseStock(2L, 2);
+        verify(bookRepository, never()).decreaseStock(anyLong(), anyInt());
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.book(2L));
+    }
+
+    @Test
+    @DisplayName("Verify takeStock() method throws exception when stock is short")
+    void takeStock_NotEnoughStock_ThrowsException() {
+        when(stockReservationRepository.findAllByUserId(1L)).thenReturn(List.of());
+        when(bookRepository.decreaseStock(2L, 3)).thenReturn(0);
+
+        assertThrows(InsufficientStockException.class,
+                () -> inventoryService.takeStock(1L, Map.of(2L, 3)));
+    }
+
+    @Test
+    @DisplayName("Verify takeStock() method takes flash sale books from counters")
+    void takeStock_FlashSaleBook_SkipsBooksTable() {
+        when(stockReservationRepository.findAllByUserId(1L)).thenReturn(List.of());
+        when(flashSaleStock.covers(2L)).thenReturn(true);
+        when(flashSaleStock.tryTake(2L, 3)).thenReturn(true);
+
+        inventoryService.takeStock(1L, Map.of(2L, 3));
+
+        verify(bookRepository, never()).decreaseStock(anyLong(), anyInt());
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.book(2L));
+    }
+
+    @Test
+    @DisplayName("Verify releaseExpiredReservations() method returns stock")
+    void releaseExpiredReservations_ShouldReturnStockAndDelete() {
+        LocalDateTime expiredAt = LocalDateTime.now().minusMinutes(1);
+        List<StockReservation> expired = List.of(reservation(1L, 3L, 2, expiredAt),
+                reservation(2L, 3L, 1, expiredAt));
+        when(stockReservationRepository.findExpiredForUpdate(any(LocalDateTime.class),
+                eq(10))).thenReturn(expired);
+
+        int released = inventoryService.releaseExpiredReservations(10);
+
+        assertEquals(2, released);
+        verify(bookRepository).increaseStock(3L, 3);
+        verify(stockReservationRepository).deleteAllInBatch(expired);
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.book(3L));
+    }
+
+    @Test
+    @DisplayName("Verify releaseExpiredReservations() method skips empty batches")
+    void releaseExpiredReservations_NothingExpired_ReturnsZero() {
+        when(stockReservationRepository.findExpiredForUpdate(any(LocalDateTime.class),
+                anyInt())).thenReturn(List.of());
+
+        assertEquals(0, inventoryService.releaseExpiredReservations(10));
+        verify(bookRepository, never()).increaseStock(anyLong(), anyInt());
+    }
+
+    private StockReservation reservation(Long id, Long bookId, int quantity,
+                                         LocalDateTime expiresAt) {
+        StockReservation reservation = new StockReservation();
+        reservation.setId(id);
+        reservation.setUserId(1L);
+        reservation.setBookId(bookId);
+        reservation.setQuantity(quantity);
+        reservation.setExpiresAt(expiresAt);
+        return reservation;
+    }
+}
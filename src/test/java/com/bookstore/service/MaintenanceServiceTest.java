@@ -0,0 +1,34 @@
+package com.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bookstore.dto.maintenance.PurgeProgressDto;
+import com.bookstore.dto.maintenance.PurgeTableProgressDto;
+import com.bookstore.maintenance.PurgeTable;
+import com.bookstore.maintenance.SoftDeletePurgeProgress;
+import com.bookstore.service.impl.MaintenanceServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MaintenanceServiceTest {
+    @Test
+    @DisplayName("Verify getPurgeProgress() method works")
+    void getPurgeProgress_ShouldReturnProgressPerTable() {
+        SoftDeletePurgeProgress progress = new SoftDeletePurgeProgress();
+        progress.runStarted();
+        progress.batchPurged(PurgeTable.BOOKS, 5, 42L);
+        MaintenanceService maintenanceService = new MaintenanceServiceImpl(progress);
+
+        PurgeProgressDto actual = maintenanceService.getPurgeProgress();
+
+        assertEquals(true, actual.isRunning());
+        assertEquals(PurgeTable.values().length, actual.getTables().size());
+        PurgeTableProgressDto books = actual.getTables().stream()
+                .filter(table -> table.getTable().equals("books"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(5, books.getPurged());
+        assertEquals(1, books.getBatches());
+        assertEquals(42L, books.getLastPurgedId());
+    }
+}
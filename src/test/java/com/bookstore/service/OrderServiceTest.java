@@ -2,12 +2,17 @@ package com.bookstore.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.bookstore.dto.order.OrderBulkStatusUpdateRequestDto;
+import com.bookstore.dto.order.OrderBulkStatusUpdateResponseDto;
 import com.bookstore.dto.order.OrderRequestDto;
 import com.bookstore.dto.order.OrderResponseDto;
 import com.bookstore.dto.order.OrderUpdateRequestDto;
@@ -23,12 +28,16 @@ import com.bookstore.model.ShoppingCart;
 import com.bookstore.model.Status;
 import com.bookstore.model.User;
 import com.bookstore.repository.order.OrderRepository;
+import com.bookstore.repository.orderitem.OrderItemRepository;
 import com.bookstore.repository.shoppingcart.ShoppingCartRepository;
+import com.bookstore.sales.OrderPlacedEvent;
+import com.bookstore.sales.OrderStatusChangedEvent;
 import com.bookstore.service.impl.OrderServiceImpl;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -38,6 +47,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,12 +64,21 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
     @Mock
     private OrderMapper orderMapper;
 
     @Mock
     private OrderItemMapper orderItemMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private InventoryService inventoryService;
+
     @Test
     @DisplayName("Verify create() method works")
     void create_SuccessfulCreate() {
@@ -117,6 +136,8 @@ class OrderServiceTest {
         assertEquals(String.valueOf(Status.PENDING), createdOrder.getStatus());
         verify(shoppingCartRepository).findById(1L);
         verify(orderRepository).save(any(Order.class));
+        verify(eventPublisher).publishEvent(any(OrderPlacedEvent.class));
+        verify(inventoryService).takeStock(1L, Map.of(1L, 2));
     }
 
     @Test
@@ -148,6 +169,47 @@ class OrderServiceTest {
         assertEquals(orders.size(), result.size());
     }
 
+    @Test
+    @DisplayName("Verify findRecentOrders() method returns only the current user's orders")
+    void findRecentOrders_ShouldAttachItemsFromHotPartitions() {
+        User user = new User();
+        user.setId(7L);
+        Order order = new Order();
+        order.setId(1L);
+        OrderItem orderItem = new OrderItem();
+        orderItem.setId(1L);
+        orderItem.setOrder(order);
+        Pageable pageable = Pageable.unpaged();
+        OrderResponseDto expected = new OrderResponseDto().setId(1L);
+        when(userService.getCurrentUser()).thenReturn(Optional.of(user));
+        when(orderRepository.findRecentOrdersByUserId(eq(7L), any(LocalDateTime.class),
+                eq(pageable))).thenReturn(List.of(order));
+        when(orderItemRepository.findAllByOrderIdsSince(eq(List.of(1L)),
+                any(LocalDateTime.class))).thenReturn(List.of(orderItem));
+        when(orderMapper.toDto(order, List.of(orderItem))).thenReturn(expected);
+
+        List<OrderResponseDto> result = orderService.findRecentOrders(pageable);
+
+        assertEquals(List.of(expected), result);
+        assertNull(order.getOrderItems());
+    }
+
+    @Test
+    @DisplayName("Verify findRecentOrders() method skips items lookup without orders")
+    void findRecentOrders_NoOrders_ShouldNotLoadItems() {
+        User user = new User();
+        user.setId(7L);
+        Pageable pageable = Pageable.unpaged();
+        when(userService.getCurrentUser()).thenReturn(Optional.of(user));
+        when(orderRepository.findRecentOrdersByUserId(eq(7L), any(LocalDateTime.class),
+                eq(pageable))).thenReturn(List.of());
+
+        List<OrderResponseDto> result = orderService.findRecentOrders(pageable);
+
+        assertEquals(0, result.size());
+        verify(orderItemRepository, never()).findAllByOrderIdsSince(any(), any());
+    }
+
     @Test
     @DisplayName("Verify updateOrderStatus() method works")
     void updateOrderStatus_SuccessfulUpdate() {
@@ -180,6 +242,82 @@ class OrderServiceTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    @DisplayName("Verify updateOrderStatus() publishes status change")
+    void updateOrderStatus_WithNewStatus_PublishesStatusChangedEvent() {
+        Long orderId = 1L;
+
+        OrderUpdateRequestDto orderDto = new OrderUpdateRequestDto();
+        orderDto.setStatus(String.valueOf(Status.DELIVERED));
+
+        Order existingOrder = new Order();
+        existingOrder.setId(orderId);
+        existingOrder.setStatus(Status.PENDING);
+
+        Order model = new Order();
+        model.setStatus(Status.DELIVERED);
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderMapper.toModel(orderDto)).thenReturn(model);
+
+        orderService.updateOrderStatus(orderId, orderDto);
+
+        assertEquals(Status.DELIVERED, existingOrder.getStatus());
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Verify updateOrderStatuses() updates orders by ids")
+    void updateOrderStatuses_WithIds_ShouldReturnUpdatedAndSkippedCounts() {
+        Set<Long> ids = Set.of(1L, 2L, 3L);
+        OrderBulkStatusUpdateRequestDto requestDto = new OrderBulkStatusUpdateRequestDto()
+                .setIds(ids)
+                .setStatus(String.valueOf(Status.DELIVERED));
+
+        when(orderRepository.updateStatusByIds(ids, Set.of(Status.PENDING), Status.DELIVERED))
+                .thenReturn(2);
+
+        OrderBulkStatusUpdateResponseDto actual = orderService.updateOrderStatuses(requestDto);
+
+        assertEquals(2, actual.getUpdated());
+        assertEquals(1, actual.getSkipped());
+        assertEquals("DELIVERED", actual.getStatus());
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Verify updateOrderStatuses() updates orders by current status")
+    void updateOrderStatuses_WithCurrentStatus_ShouldUpdateMatchingOrders() {
+        LocalDateTime placedBefore = LocalDateTime.of(2023, 9, 11, 0, 0);
+        OrderBulkStatusUpdateRequestDto requestDto = new OrderBulkStatusUpdateRequestDto()
+                .setCurrentStatus(String.valueOf(Status.DELIVERED))
+                .setPlacedBefore(placedBefore)
+                .setStatus(String.valueOf(Status.COMPLETED));
+
+        when(orderRepository.updateStatusByFilter(
+                Status.DELIVERED, placedBefore, Status.COMPLETED)).thenReturn(5);
+
+        OrderBulkStatusUpdateResponseDto actual = orderService.updateOrderStatuses(requestDto);
+
+        assertEquals(5, actual.getUpdated());
+        assertEquals(0, actual.getSkipped());
+    }
+
+    @Test
+    @DisplayName("Verify updateOrderStatuses() skips invalid transitions")
+    void updateOrderStatuses_WithInvalidTransition_ShouldNotUpdateOrders() {
+        OrderBulkStatusUpdateRequestDto requestDto = new OrderBulkStatusUpdateRequestDto()
+                .setIds(Set.of(1L, 2L))
+                .setStatus(String.valueOf(Status.PENDING));
+
+        OrderBulkStatusUpdateResponseDto actual = orderService.updateOrderStatuses(requestDto);
+
+        assertEquals(0, actual.getUpdated());
+        assertEquals(2, actual.getSkipped());
+        verify(orderRepository, never()).updateStatusByIds(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     @DisplayName("Verify findAllOrderItems() method works")
     void findAllOrderItems_WithValidOrderId_ShouldReturnListOfAllOrderItems() {
@@ -0,0 +1,104 @@
+package com.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bookstore.dto.sales.BookSalesDto;
+import com.bookstore.dto.sales.CategorySalesDto;
+import com.bookstore.dto.sales.DailySalesDto;
+import com.bookstore.mapper.SalesMapper;
+import com.bookstore.model.BookSales;
+import com.bookstore.model.CategorySales;
+import com.bookstore.model.DailySales;
+import com.bookstore.repository.sales.BookSalesRepository;
+import com.bookstore.repository.sales.CategorySalesRepository;
+import com.bookstore.repository.sales.DailySalesRepository;
+import com.bookstore.service.impl.SalesReportServiceImpl;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class SalesReportServiceTest {
+    @Mock
+    private BookSalesRepository bookSalesRepository;
+
+    @Mock
+    private CategorySalesRepository categorySalesRepository;
+
+    @Mock
+    private DailySalesRepository dailySalesRepository;
+
+    @Mock
+    private SalesMapper salesMapper;
+
+    @InjectMocks
+    private SalesReportServiceImpl salesReportService;
+
+    @Test
+    @DisplayName("Verify findBookSales() method works")
+    void findBookSales_ShouldReturnListOfBookSales() {
+        BookSales bookSales = new BookSales();
+        bookSales.setBookId(1L);
+        bookSales.setQuantitySold(3);
+        bookSales.setRevenue(BigDecimal.valueOf(30));
+        BookSalesDto expected = new BookSalesDto()
+                .setBookId(1L)
+                .setQuantitySold(3)
+                .setRevenue(BigDecimal.valueOf(30));
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(bookSalesRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(bookSales)));
+        when(salesMapper.toDto(bookSales)).thenReturn(expected);
+
+        List<BookSalesDto> actual = salesReportService.findBookSales(pageable);
+
+        assertEquals(List.of(expected), actual);
+        verify(bookSalesRepository).findAll(pageable);
+    }
+
+    @Test
+    @DisplayName("Verify findCategorySales() method works")
+    void findCategorySales_ShouldReturnListOfCategorySales() {
+        Pageable pageable = PageRequest.of(0, 10);
+        CategorySales categorySales = new CategorySales();
+        categorySales.setCategoryId(1L);
+        CategorySalesDto expected = new CategorySalesDto().setCategoryId(1L);
+
+        when(categorySalesRepository.findAll(pageable))
+                .thenReturn(new PageImpl<>(List.of(categorySales)));
+        when(salesMapper.toDto(categorySales)).thenReturn(expected);
+
+        List<CategorySalesDto> actual = salesReportService.findCategorySales(pageable);
+
+        assertEquals(List.of(expected), actual);
+    }
+
+    @Test
+    @DisplayName("Verify findDailySales() method works")
+    void findDailySales_WithDateRange_ShouldReturnDailySales() {
+        LocalDate from = LocalDate.of(2023, 9, 1);
+        LocalDate to = LocalDate.of(2023, 9, 30);
+        DailySales dailySales = new DailySales();
+        dailySales.setSalesDate(LocalDate.of(2023, 9, 10));
+        DailySalesDto expected = new DailySalesDto().setSalesDate(LocalDate.of(2023, 9, 10));
+
+        when(dailySalesRepository.findAllBySalesDateBetweenOrderBySalesDate(from, to))
+                .thenReturn(List.of(dailySales));
+        when(salesMapper.toDto(dailySales)).thenReturn(expected);
+
+        List<DailySalesDto> actual = salesReportService.findDailySales(from, to);
+
+        assertEquals(List.of(expected), actual);
+    }
+}
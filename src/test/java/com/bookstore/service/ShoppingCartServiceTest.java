@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -88,7 +89,10 @@ class ShoppingCartServiceTest {
 
         when(userService.getCurrentUser()).thenReturn(Optional.of(user));
         when(bookRepository.findBookById(bookId)).thenReturn(Optional.of(book));
-        when(shoppingCartRepository.findById(user.getId())).thenReturn(Optional.of(shoppingCart));
+        when(shoppingCartRepository.lockById(user.getId()))
+                .thenReturn(Optional.of(shoppingCart));
+        when(shoppingCartRepository.findById(user.getId()))
+                .thenReturn(Optional.of(shoppingCart));
 
         shoppingCartService.addItemToCart(bookId, 2);
         verify(shoppingCartRepository).save(any(ShoppingCart.class));
@@ -121,7 +125,10 @@ class ShoppingCartServiceTest {
         shoppingCart.getCartItems().add(cartItem);
 
         when(userService.getCurrentUser()).thenReturn(Optional.of(user));
-        when(shoppingCartRepository.findById(user.getId())).thenReturn(Optional.of(shoppingCart));
+        when(shoppingCartRepository.lockById(user.getId()))
+                .thenReturn(Optional.of(shoppingCart));
+        when(shoppingCartRepository.findById(user.getId()))
+                .thenReturn(Optional.of(shoppingCart));
 
         shoppingCartService.deleteCartItemById(cartItemId);
 
@@ -166,6 +173,8 @@ class ShoppingCartServiceTest {
         cartItemUpdateDto.setQuantity(3);
 
         when(userService.getCurrentUser()).thenReturn(Optional.of(currentUser));
+        when(shoppingCartRepository.lockById(currentUser.getId()))
+                .thenReturn(Optional.of(shoppingCart));
         when(shoppingCartRepository.findById(currentUser.getId()))
                 .thenReturn(Optional.of(shoppingCart));
 
@@ -175,4 +184,17 @@ class ShoppingCartServiceTest {
 
         verify(cartItemRepository, times(1)).save(cartItem);
     }
+
+    @Test
+    @DisplayName("Verify getVersionTag() method looks up only the cart version")
+    void getVersionTag_ShouldUseVersionLookup() {
+        User user = new User();
+        user.setId(1L);
+
+        when(userService.getCurrentUser()).thenReturn(Optional.of(user));
+        when(shoppingCartRepository.findVersionTagById(1L)).thenReturn(Optional.of("3.7"));
+
+        assertEquals("3.7", shoppingCartService.getVersionTag());
+        verify(shoppingCartRepository, never()).findById(anyLong());
+    }
 }
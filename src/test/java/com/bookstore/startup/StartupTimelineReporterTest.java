@@ -0,0 +1,35 @@
+package com.bookstore.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+class StartupTimelineReporterTest {
+    @Test
+    @DisplayName("Verify slowestBeans() method works")
+    void slowestBeans_ShouldReturnSlowestBeanInstantiationsFirst() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        instantiate(startup, "fastBean", 1);
+        instantiate(startup, "slowBean", 40);
+        startup.start("spring.context.refresh").end();
+        instantiate(startup, "mediumBean", 20);
+
+        List<StartupTimelineReporter.TimedBean> actual = new StartupTimelineReporter(2)
+                .slowestBeans(startup.getBufferedTimeline());
+
+        assertEquals(List.of("slowBean", "mediumBean"),
+                actual.stream().map(StartupTimelineReporter.TimedBean::name).toList());
+    }
+
+    private static void instantiate(BufferingApplicationStartup startup, String beanName,
+                                    long millis) throws InterruptedException {
+        StartupStep step = startup.start(StartupTimelineReporter.BEAN_INSTANTIATION)
+                .tag("beanName", beanName);
+        Thread.sleep(millis);
+        step.end();
+    }
+}
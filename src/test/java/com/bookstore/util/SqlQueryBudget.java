@@ -0,0 +1,34 @@
+package com.bookstore.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bookstore.diagnostics.SqlStatementRecorder;
+import com.bookstore.diagnostics.SqlStatementStats;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+public final class SqlQueryBudget {
+    private static final int REPEAT_THRESHOLD = 3;
+
+    private SqlQueryBudget() {
+    }
+
+    public static <T> T assertQueryBudget(int maxStatements, Callable<T> action)
+            throws Exception {
+        SqlStatementRecorder.start();
+        T result;
+        SqlStatementStats stats;
+        try {
+            result = action.call();
+        } finally {
+            stats = SqlStatementRecorder.stop();
+        }
+        int total = stats.getTotal();
+        Map<String, Integer> shapes = stats.getShapes();
+        assertTrue(total <= maxStatements, () -> "Expected at most " + maxStatements
+                + " SQL statements but " + total + " were executed: " + shapes);
+        Map<String, Integer> repeated = stats.getRepeatedShapes(REPEAT_THRESHOLD);
+        assertTrue(repeated.isEmpty(), () -> "Likely N+1, repeated statements: " + repeated);
+        return result;
+    }
+}
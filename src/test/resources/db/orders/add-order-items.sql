@@ -1,2 +1,2 @@
-INSERT INTO order_items (id, order_id, book_id, quantity, price)
-VALUES (1, 1, 1, 1, 199.99);
\ No newline at end of file
+INSERT INTO order_items (id, order_id, book_id, quantity, price, order_date)
+VALUES (1, 1, 1, 1, 199.99, '2023-09-10 12:00:00');